@@ -1,6 +1,7 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
     id("org.openrewrite.build.moderne-source-available-license") version "latest.release"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "org.openrewrite.recipe"
@@ -98,6 +99,19 @@ dependencies {
     testRuntimeOnly("org.jboss.arquillian.junit:arquillian-junit-core:latest.release")
     testRuntimeOnly("org.mockito.kotlin:mockito-kotlin:5.4.0")
     testRuntimeOnly("org.testng:testng:latest.release")
+
+    jmh("org.openrewrite:rewrite-java-21")
+}
+
+jmh {
+    // The synthetic test source corpus is generated by a test fixture
+    includeTests = true
+    fork = 1
+    warmupIterations = 2
+    iterations = 5
+    // `gc.alloc.rate.norm` is reported per operation, and each operation is a single source file
+    profilers = listOf("gc")
+    resultFormat = "JSON"
 }
 
 tasks.test {
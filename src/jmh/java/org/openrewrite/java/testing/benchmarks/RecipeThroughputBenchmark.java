@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.RecipeRun;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many test source files per second the headline migration composites process.
+ * Every benchmark invocation runs the recipe over the whole {@link TestSourceCorpusState corpus},
+ * so the reported throughput is in files per second and the {@code gc.alloc.rate.norm} metric of
+ * the GC profiler is the number of bytes allocated per file.
+ */
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecipeThroughputBenchmark {
+
+    @Param({
+            "org.openrewrite.java.testing.junit5.JUnit4to5Migration",
+            "org.openrewrite.java.testing.assertj.Assertj",
+            "org.openrewrite.java.testing.hamcrest.MigrateHamcrestToAssertJ",
+            "org.openrewrite.java.testing.mockito.Mockito1to5Migration"
+    })
+    String recipeName;
+
+    Recipe recipe;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        recipe = Environment.builder()
+                .scanRuntimeClasspath("org.openrewrite.java.testing")
+                .build()
+                .activateRecipes(recipeName);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TestSourceCorpusState.SIZE)
+    public RecipeRun run(TestSourceCorpusState corpus) {
+        return recipe.run(new InMemoryLargeSourceSet(corpus.getSourceFiles()), new InMemoryExecutionContext());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(RecipeThroughputBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.testing.corpus.TestSourceCorpus;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link TestSourceCorpus} of generated test classes, parsed once per trial.
+ */
+@State(Scope.Benchmark)
+public class TestSourceCorpusState {
+
+    /**
+     * The number of test classes in the corpus. A compile time constant so that it can be
+     * used in {@link org.openjdk.jmh.annotations.OperationsPerInvocation}.
+     */
+    public static final int SIZE = 2_000;
+
+    private static final long SEED = 42L;
+
+    List<SourceFile> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        sourceFiles = TestSourceCorpus.javaParser(ctx)
+                .build()
+                .parse(ctx, new TestSourceCorpus(SEED).classes(SIZE).toArray(new String[0]))
+                .collect(toList());
+    }
+
+    public List<SourceFile> getSourceFiles() {
+        return sourceFiles;
+    }
+}
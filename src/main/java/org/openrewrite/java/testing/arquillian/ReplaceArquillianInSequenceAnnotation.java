@@ -20,8 +20,9 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.service.AnnotationService;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 
 import java.util.Comparator;
@@ -41,7 +42,7 @@ public class ReplaceArquillianInSequenceAnnotation extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesType<>("org.jboss.arquillian.junit.InSequence", false),
+                UsesIndex.usesType("org.jboss.arquillian.junit.InSequence", false),
                 new JavaIsoVisitor<ExecutionContext>() {
                     private final String IN_SEQUENCE = "org.jboss.arquillian.junit.InSequence";
                     private final String TEST_METHOD_ORDER = "org.junit.jupiter.api.TestMethodOrder";
@@ -71,7 +72,7 @@ public class ReplaceArquillianInSequenceAnnotation extends Recipe {
                                             maybeAddImport(TEST_METHOD_ORDER);
                                             return JavaTemplate.builder("@TestMethodOrder(MethodOrderer.OrderAnnotation.class)")
                                                     .imports(METHOD_ORDERER, TEST_METHOD_ORDER)
-                                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                                                    .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                                                     .build()
                                                     .apply(getCursor(), classDecl.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
                                         }
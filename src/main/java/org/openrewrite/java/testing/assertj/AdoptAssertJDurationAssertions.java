@@ -20,10 +20,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -89,13 +89,13 @@ public class AdoptAssertJDurationAssertions extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 or(
-                        new UsesMethod<>(DURATION_ASSERT_HAS_LONG, true),
-                        new UsesMethod<>(INTEGER_ASSERT_IS_EQUAL_TO, true),
-                        new UsesMethod<>(INTEGER_ASSERT_IS_GREATER_THAN, true),
-                        new UsesMethod<>(INTEGER_ASSERT_IS_LESS_THAN, true),
-                        new UsesMethod<>(LONG_ASSERT_IS_EQUAL_TO, true),
-                        new UsesMethod<>(LONG_ASSERT_IS_GREATER_THAN, true),
-                        new UsesMethod<>(LONG_ASSERT_IS_LESS_THAN, true)
+                        UsesIndex.usesMethod(DURATION_ASSERT_HAS_LONG, true),
+                        UsesIndex.usesMethod(INTEGER_ASSERT_IS_EQUAL_TO, true),
+                        UsesIndex.usesMethod(INTEGER_ASSERT_IS_GREATER_THAN, true),
+                        UsesIndex.usesMethod(INTEGER_ASSERT_IS_LESS_THAN, true),
+                        UsesIndex.usesMethod(LONG_ASSERT_IS_EQUAL_TO, true),
+                        UsesIndex.usesMethod(LONG_ASSERT_IS_GREATER_THAN, true),
+                        UsesIndex.usesMethod(LONG_ASSERT_IS_LESS_THAN, true)
                 ), new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -201,7 +201,7 @@ public class AdoptAssertJDurationAssertions extends Recipe {
                     private J.MethodInvocation applyTemplate(ExecutionContext ctx, J.MethodInvocation m, String template, Object... parameters) {
                         J.MethodInvocation invocation = JavaTemplate.builder(template)
                                 .contextSensitive()
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                                 .build()
                                 .apply(getCursor(), m.getCoordinates().replace(), parameters);
 
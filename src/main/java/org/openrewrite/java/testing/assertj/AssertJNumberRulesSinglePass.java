@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.testing.internal.UsesIndex;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Space;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Applies the rules of {@link AssertJBigIntegerRules}, {@link AssertJByteRules}, {@link AssertJDoubleRules},
+ * {@link AssertJFloatRules}, {@link AssertJIntegerRules}, {@link AssertJLongRules} and {@link AssertJShortRules}
+ * in a single traversal, dispatching on the name of the invoked assertion and the {@code Abstract*Assert} type it is
+ * invoked on instead of matching the templates of each rule against every method invocation.
+ * <p>
+ * The arguments accepted as zero and one are those of the before templates of each rule class.
+ */
+public class AssertJNumberRulesSinglePass extends Recipe {
+
+    private static final MethodMatcher OFFSET = new MethodMatcher("org.assertj.core.data.Offset offset(..)");
+    private static final MethodMatcher WITH_PERCENTAGE = new MethodMatcher("org.assertj.core.data.Percentage withPercentage(..)");
+
+    private static final Map<String, NumberAssert> NUMBER_ASSERTS = new HashMap<>();
+
+    static {
+        Predicate<Expression> percentageZero = literal(0);
+        Predicate<Expression> floatingPercentageZero = literal(0, 0.0);
+        register("org.assertj.core.api.AbstractBigIntegerAssert",
+                constant("java.math.BigInteger", "ZERO"), percentageZero,
+                literal(0).or(constant("java.math.BigInteger", "ZERO")),
+                literal(1).or(constant("java.math.BigInteger", "ONE")), false);
+        register("org.assertj.core.api.AbstractByteAssert",
+                cast(JavaType.Primitive.Byte, 0), percentageZero,
+                cast(JavaType.Primitive.Byte, 0), cast(JavaType.Primitive.Byte, 1), false);
+        register("org.assertj.core.api.AbstractDoubleAssert",
+                literal(0.0), floatingPercentageZero, literal(0, 0.0), literal(1, 1.0), true);
+        register("org.assertj.core.api.AbstractFloatAssert",
+                literal(0f), floatingPercentageZero, literal(0, 0f), literal(1, 1f), true);
+        register("org.assertj.core.api.AbstractIntegerAssert",
+                literal(0), percentageZero, literal(0), literal(1), false);
+        register("org.assertj.core.api.AbstractLongAssert",
+                literal(0L), percentageZero, literal(0), literal(1), false);
+        register("org.assertj.core.api.AbstractShortAssert",
+                cast(JavaType.Primitive.Short, 0), percentageZero,
+                cast(JavaType.Primitive.Short, 0), cast(JavaType.Primitive.Short, 1), false);
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Adopt AssertJ number assertions in a single pass";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Adopt AssertJ `BigInteger`, `Byte`, `Double`, `Float`, `Integer`, `Long` and `Short` assertions. " +
+               "Favor semantically explicit methods (e.g. `myInteger.isZero()` over `myInteger.isEqualTo(0)`), " +
+               "applying the rules of each of those types in one traversal of each source file.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        @SuppressWarnings("unchecked")
+        TreeVisitor<?, ExecutionContext>[] usesNumberAssert = NUMBER_ASSERTS.keySet().stream()
+                .sorted()
+                .map(numberAssert -> UsesIndex.usesType(numberAssert, true))
+                .toArray(TreeVisitor[]::new);
+        return Preconditions.check(Preconditions.or(usesNumberAssert), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                // `isEqualTo(n, offset(0.0))` becomes `isCloseTo(n, offset(0.0))` and then `isEqualTo(n)`
+                for (J.MethodInvocation simplified = simplify(mi); simplified != mi; simplified = simplify(mi)) {
+                    mi = simplified;
+                }
+                return mi;
+            }
+
+            private J.MethodInvocation simplify(J.MethodInvocation mi) {
+                if (mi.getSelect() == null) {
+                    return mi;
+                }
+                NumberAssert numberAssert = numberAssert(mi.getSelect().getType());
+                if (numberAssert == null) {
+                    return mi;
+                }
+
+                List<Expression> args = mi.getArguments();
+                switch (mi.getSimpleName()) {
+                    case "isCloseTo":
+                        if (args.size() == 2 && isZeroTolerance(numberAssert, args.get(1))) {
+                            return replace(mi, "isEqualTo", args.subList(0, 1));
+                        }
+                        break;
+                    case "isNotCloseTo":
+                        if (args.size() == 2 && isZeroTolerance(numberAssert, args.get(1))) {
+                            return replace(mi, "isNotEqualTo", args.subList(0, 1));
+                        }
+                        break;
+                    case "isEqualTo":
+                        if (args.size() == 1 && numberAssert.getZero().test(args.get(0))) {
+                            return replace(mi, "isZero", noArguments());
+                        } else if (args.size() == 1 && numberAssert.getOne().test(args.get(0))) {
+                            return replace(mi, "isOne", noArguments());
+                        } else if (args.size() == 2 && numberAssert.isEqualToWithOffsetIsCloseTo() &&
+                                   TypeUtils.isOfClassType(args.get(1).getType(), "org.assertj.core.data.Offset")) {
+                            return replace(mi, "isCloseTo", args);
+                        }
+                        break;
+                    case "isNotEqualTo":
+                        if (args.size() == 1 && numberAssert.getZero().test(args.get(0))) {
+                            return replace(mi, "isNotZero", noArguments());
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                return mi;
+            }
+
+            private boolean isZeroTolerance(NumberAssert numberAssert, Expression tolerance) {
+                if (!(tolerance instanceof J.MethodInvocation) || ((J.MethodInvocation) tolerance).getArguments().size() != 1) {
+                    return false;
+                }
+                Expression value = ((J.MethodInvocation) tolerance).getArguments().get(0);
+                return OFFSET.matches(tolerance) && numberAssert.getOffsetZero().test(value) ||
+                       WITH_PERCENTAGE.matches(tolerance) && numberAssert.getPercentageZero().test(value);
+            }
+
+            private List<Expression> noArguments() {
+                return singletonList(new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY));
+            }
+
+            private J.MethodInvocation replace(J.MethodInvocation mi, String name, List<Expression> args) {
+                if (args.size() < mi.getArguments().size() || args.get(0) instanceof J.Empty) {
+                    maybeRemoveImport("org.assertj.core.data.Offset");
+                    maybeRemoveImport("org.assertj.core.data.Offset.offset");
+                    maybeRemoveImport("org.assertj.core.data.Percentage");
+                    maybeRemoveImport("org.assertj.core.data.Percentage.withPercentage");
+                    maybeRemoveImport("java.math.BigInteger");
+                }
+                JavaType.Method type = mi.getMethodType();
+                if (type != null) {
+                    int parameters = args.get(0) instanceof J.Empty ? 0 : Math.min(args.size(), type.getParameterTypes().size());
+                    type = type.withName(name)
+                            .withParameterNames(type.getParameterNames().subList(0, Math.min(parameters, type.getParameterNames().size())))
+                            .withParameterTypes(type.getParameterTypes().subList(0, parameters));
+                }
+                return mi.withName(mi.getName().withSimpleName(name).withType(type))
+                        .withMethodType(type)
+                        .withArguments(args);
+            }
+        });
+    }
+
+    private static @Nullable NumberAssert numberAssert(@Nullable JavaType type) {
+        for (JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type); fq != null; fq = fq.getSupertype()) {
+            NumberAssert numberAssert = NUMBER_ASSERTS.get(fq.getFullyQualifiedName());
+            if (numberAssert != null) {
+                return numberAssert;
+            }
+        }
+        return null;
+    }
+
+    private static void register(String assertType, Predicate<Expression> offsetZero, Predicate<Expression> percentageZero,
+                                 Predicate<Expression> zero, Predicate<Expression> one, boolean equalToWithOffsetIsCloseTo) {
+        NUMBER_ASSERTS.put(assertType, new NumberAssert(offsetZero, percentageZero, zero, one, equalToWithOffsetIsCloseTo));
+    }
+
+    /**
+     * Literals with any of the given values, where {@code 0d} and {@code 0.0} have the same value, but {@code 0} and {@code 0L} do not.
+     */
+    private static Predicate<Expression> literal(Object... values) {
+        List<Object> accepted = Arrays.asList(values);
+        return e -> e instanceof J.Literal && accepted.contains(((J.Literal) e).getValue());
+    }
+
+    private static Predicate<Expression> cast(JavaType.Primitive type, int value) {
+        Predicate<Expression> literal = literal(value);
+        return e -> e instanceof J.TypeCast &&
+                    ((J.TypeCast) e).getType() == type &&
+                    literal.test(((J.TypeCast) e).getExpression());
+    }
+
+    private static Predicate<Expression> constant(String owner, String name) {
+        return e -> {
+            J.Identifier identifier = e instanceof J.FieldAccess ? ((J.FieldAccess) e).getName() :
+                    e instanceof J.Identifier ? (J.Identifier) e : null;
+            return identifier != null &&
+                   identifier.getSimpleName().equals(name) &&
+                   identifier.getFieldType() != null &&
+                   TypeUtils.isOfClassType(identifier.getFieldType().getOwner(), owner);
+        };
+    }
+
+    @Value
+    private static class NumberAssert {
+        Predicate<Expression> offsetZero;
+        Predicate<Expression> percentageZero;
+        Predicate<Expression> zero;
+        Predicate<Expression> one;
+        boolean equalToWithOffsetIsCloseTo;
+    }
+}
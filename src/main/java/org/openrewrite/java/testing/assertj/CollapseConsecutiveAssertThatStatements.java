@@ -15,6 +15,7 @@
  */
 package org.openrewrite.java.testing.assertj;
 
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
@@ -23,11 +24,15 @@ import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.SemanticallyEqual;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -43,12 +48,13 @@ public class CollapseConsecutiveAssertThatStatements extends Recipe {
 
     @Override
     public String getDescription() {
-        return "Collapse consecutive `assertThat` statements into single `assertThat` chained statement. This recipe ignores `assertThat` statements that have method invocation as parameter.";
+        return "Collapse consecutive `assertThat` statements into single `assertThat` chained statement. This recipe ignores `assertThat` statements that have method invocation as parameter. " +
+               "Statements on the same actual value are also collapsed when only `assertThat` statements without side effects are in between.";
     }
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(ASSERT_THAT), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(UsesIndex.usesMethod(ASSERT_THAT), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
                 J.Block bl = super.visitBlock(block, ctx);
@@ -66,42 +72,94 @@ public class CollapseConsecutiveAssertThatStatements extends Recipe {
             }
 
             private List<List<Statement>> getGroupedStatements(J.Block bl) {
-                List<Statement> originalStatements = bl.getStatements();
                 List<List<Statement>> groupedStatements = new ArrayList<>();
-                Expression currentActual = null; // The actual argument of the current group of assertThat statements
-                List<Statement> currentGroup = new ArrayList<>();
-                for (Statement statement : originalStatements) {
-                    if (statement instanceof J.MethodInvocation) {
+                // The groups of assertThat statements since the last other statement, by hash of their actual argument
+                List<Group> run = new ArrayList<>();
+                // The groups that the next assertThat statement may join, without moving it before a statement with side effects
+                Map<Integer, List<Group>> joinable = new HashMap<>();
+                Group previous = null;
+                for (Statement statement : bl.getStatements()) {
+                    if (statement instanceof J.MethodInvocation && isGroupableAssertion((J.MethodInvocation) statement)) {
                         J.MethodInvocation assertion = (J.MethodInvocation) statement;
-                        if (isGroupableAssertion(assertion)) {
-                            J.MethodInvocation assertThat = (J.MethodInvocation) assertion.getSelect();
-                            assert assertThat != null;
-                            Expression actual = assertThat.getArguments().get(0);
-                            if (currentActual == null || !SemanticallyEqual.areEqual(currentActual, actual)) {
-                                // Conclude the previous group
-                                groupedStatements.add(currentGroup);
-                                currentGroup = new ArrayList<>();
-                                currentActual = actual;
+                        J.MethodInvocation assertThat = (J.MethodInvocation) assertion.getSelect();
+                        assert assertThat != null;
+                        Expression actual = assertThat.getArguments().get(0);
+                        int hash = hash(actual);
+                        Group group = null;
+                        if (isFreeOfSideEffects(assertion)) {
+                            group = find(joinable.get(hash), actual);
+                        } else {
+                            // Only join the previous statement, and let no later statement be moved before this one
+                            if (previous != null && previous.hash == hash && SemanticallyEqual.areEqual(previous.actual, actual)) {
+                                group = previous;
                             }
-                            currentGroup.add(statement);
-                            continue;
+                            joinable.clear();
+                            if (group != null) {
+                                joinable.computeIfAbsent(hash, k -> new ArrayList<>()).add(group);
+                            }
+                        }
+                        if (group == null) {
+                            group = new Group(actual, hash);
+                            run.add(group);
+                            joinable.computeIfAbsent(hash, k -> new ArrayList<>()).add(group);
                         }
+                        group.statements.add(statement);
+                        previous = group;
+                        continue;
                     }
 
-                    // Conclude the previous group, and start a new group
-                    groupedStatements.add(currentGroup);
-                    currentGroup = new ArrayList<>();
-                    currentActual = null;
+                    // Conclude the previous groups, and start new groups
+                    for (Group group : run) {
+                        groupedStatements.add(group.statements);
+                    }
+                    run.clear();
+                    joinable.clear();
+                    previous = null;
                     // The current statement should not be grouped with any other statement
                     groupedStatements.add(singletonList(statement));
                 }
-                if (!currentGroup.isEmpty()) {
-                    // Conclude the last group
-                    groupedStatements.add(currentGroup);
+                // Conclude the last groups
+                for (Group group : run) {
+                    groupedStatements.add(group.statements);
                 }
                 return groupedStatements;
             }
 
+            private @Nullable Group find(@Nullable List<Group> groups, Expression actual) {
+                if (groups != null) {
+                    for (Group group : groups) {
+                        if (SemanticallyEqual.areEqual(group.actual, actual)) {
+                            return group;
+                        }
+                    }
+                }
+                return null;
+            }
+
+            /**
+             * Whether the order of this assertion and other assertions without side effects does not matter, as neither
+             * its actual argument nor its expected arguments invoke methods, create objects or lambdas, or assign variables.
+             */
+            private boolean isFreeOfSideEffects(J.MethodInvocation assertion) {
+                J.MethodInvocation assertThat = (J.MethodInvocation) assertion.getSelect();
+                AtomicBoolean sideEffects = new AtomicBoolean(false);
+                new JavaIsoVisitor<AtomicBoolean>() {
+                    @Override
+                    public J preVisit(J tree, AtomicBoolean found) {
+                        if ((tree instanceof MethodCall && tree != assertion && tree != assertThat) ||
+                                tree instanceof J.Lambda ||
+                                tree instanceof J.Assignment ||
+                                tree instanceof J.AssignmentOperation ||
+                                (tree instanceof J.Unary && isIncrementOrDecrement(((J.Unary) tree).getOperator()))) {
+                            found.set(true);
+                            stopAfterPreVisit();
+                        }
+                        return tree;
+                    }
+                }.visit(assertion, sideEffects);
+                return !sideEffects.get();
+            }
+
             private boolean isGroupableAssertion(J.MethodInvocation assertion) {
                 // Only match method invocations where the select is an assertThat, containing a non-method call argument
                 if (ASSERT_THAT.matches(assertion.getSelect())) {
@@ -164,4 +222,39 @@ public class CollapseConsecutiveAssertThatStatements extends Recipe {
             }
         });
     }
+
+    /**
+     * A hash of the actual argument of an {@code assertThat}, equal for semantically equal arguments. Only the name an
+     * identifier or field access ends with is used, as for instance {@code this.list} and {@code list} may be equal,
+     * and arguments of other kinds all have the same hash, so equal hashes are confirmed with {@link SemanticallyEqual}.
+     */
+    private static int hash(Expression actual) {
+        if (actual instanceof J.Identifier) {
+            return ((J.Identifier) actual).getSimpleName().hashCode();
+        } else if (actual instanceof J.FieldAccess) {
+            return ((J.FieldAccess) actual).getSimpleName().hashCode();
+        } else if (actual instanceof J.Literal) {
+            return Objects.hashCode(((J.Literal) actual).getValue());
+        } else if (actual instanceof J.ArrayAccess) {
+            J.ArrayAccess arrayAccess = (J.ArrayAccess) actual;
+            return 31 * hash(arrayAccess.getIndexed()) + hash(arrayAccess.getDimension().getIndex());
+        }
+        return 0;
+    }
+
+    private static boolean isIncrementOrDecrement(J.Unary.Type operator) {
+        return operator == J.Unary.Type.PreIncrement || operator == J.Unary.Type.PreDecrement ||
+               operator == J.Unary.Type.PostIncrement || operator == J.Unary.Type.PostDecrement;
+    }
+
+    private static class Group {
+        final Expression actual;
+        final int hash;
+        final List<Statement> statements = new ArrayList<>();
+
+        Group(Expression actual, int hash) {
+            this.actual = actual;
+            this.hash = hash;
+        }
+    }
 }
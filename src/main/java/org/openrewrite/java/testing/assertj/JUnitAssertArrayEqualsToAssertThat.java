@@ -20,10 +20,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -49,7 +49,7 @@ public class JUnitAssertArrayEqualsToAssertThat extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(ASSERT_ARRAY_EQUALS_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(UsesIndex.usesMethod(ASSERT_ARRAY_EQUALS_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation md = super.visitMethodInvocation(method, ctx);
@@ -66,7 +66,7 @@ public class JUnitAssertArrayEqualsToAssertThat extends Recipe {
                 if (args.size() == 2) {
                     return JavaTemplate.builder("assertThat(#{anyArray()}).containsExactly(#{anyArray()});")
                             .staticImports(ASSERTJ + ".assertThat")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                             .build()
                             .apply(getCursor(), md.getCoordinates().replace(), actual, expected);
                 }
@@ -75,7 +75,7 @@ public class JUnitAssertArrayEqualsToAssertThat extends Recipe {
                     // assert is using floating points with a delta and no message.
                     return JavaTemplate.builder("assertThat(#{anyArray()}).containsExactly(#{anyArray()}, within(#{any()}));")
                             .staticImports(ASSERTJ + ".assertThat", ASSERTJ + ".within")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                             .build()
                             .apply(getCursor(), md.getCoordinates().replace(), actual, expected, args.get(2));
                 }
@@ -83,7 +83,7 @@ public class JUnitAssertArrayEqualsToAssertThat extends Recipe {
                     Expression message = args.get(2);
                     return JavaTemplate.builder("assertThat(#{anyArray()}).as(#{any()}).containsExactly(#{anyArray()});")
                             .staticImports(ASSERTJ + ".assertThat")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                             .build()
                             .apply(getCursor(), md.getCoordinates().replace(), actual, message, expected);
                 }
@@ -94,7 +94,7 @@ public class JUnitAssertArrayEqualsToAssertThat extends Recipe {
                 Expression message = args.get(3);
                 return JavaTemplate.builder("assertThat(#{anyArray()}).as(#{any()}).containsExactly(#{anyArray()}, within(#{}));")
                         .staticImports(ASSERTJ + ".assertThat", ASSERTJ + ".within")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                         .build()
                         .apply(getCursor(), md.getCoordinates().replace(), actual, message, expected, args.get(2));
             }
@@ -20,7 +20,8 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
@@ -47,7 +48,7 @@ public class JUnitFailToAssertJFail extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(FAIL_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(UsesIndex.usesMethod(FAIL_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation mi = method;
@@ -60,18 +61,18 @@ public class JUnitFailToAssertJFail extends Recipe {
                     // fail(), fail(String), fail(Supplier<String>), fail(Throwable)
                     if (args.get(0) instanceof J.Empty) {
                         mi = JavaTemplate.builder(ASSERTJ + ".fail(\"\");")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                                 .build()
                                 .apply(getCursor(), mi.getCoordinates().replace());
                     } else if (args.get(0) instanceof J.Literal ||
                                TypeUtils.isAssignableTo("java.lang.String", args.get(0).getType())) {
                         mi = JavaTemplate.builder(ASSERTJ + ".fail(#{any()});")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                                 .build()
                                 .apply(getCursor(), mi.getCoordinates().replace(), args.get(0));
                     } else {
                         mi = JavaTemplate.builder(ASSERTJ + ".fail(\"\", #{any()});")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                                 .build()
                                 .apply(getCursor(), mi.getCoordinates().replace(), args.get(0));
                     }
@@ -79,7 +80,7 @@ public class JUnitFailToAssertJFail extends Recipe {
                     // fail(String, Throwable)
                     String anyArgs = String.join(",", nCopies(args.size(), "#{any()}"));
                     mi = JavaTemplate.builder(ASSERTJ + ".fail(" + anyArgs + ");")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                             .build()
                             .apply(getCursor(), mi.getCoordinates().replace(), args.toArray());
                 }
@@ -106,7 +107,7 @@ public class JUnitFailToAssertJFail extends Recipe {
                     String anyArgs = String.join(",", nCopies(arguments.size(), "#{any()}"));
                     return JavaTemplate.builder("fail(" + anyArgs + ");")
                             .staticImports(ASSERTJ + ".fail")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                             .build()
                             .apply(getCursor(), mi.getCoordinates().replace(), arguments.toArray());
                 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.testing.internal.JavaTemplateCache;
+import org.openrewrite.java.testing.internal.UsesIndex;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.List;
+
+import static java.util.Collections.nCopies;
+
+/**
+ * Converts the JUnit 5 assertions handled by {@link JUnitAssertArrayEqualsToAssertThat},
+ * {@link JUnitAssertEqualsToAssertThat}, {@link JUnitAssertFalseToAssertThat}, {@link JUnitAssertNotEqualsToAssertThat},
+ * {@link JUnitAssertNotNullToAssertThat}, {@link JUnitAssertNullToAssertThat}, {@link JUnitAssertSameToAssertThat},
+ * {@link JUnitAssertTrueToAssertThat}, {@link JUnitFailToAssertJFail}, {@link JUnitAssertThrowsToAssertExceptionType}
+ * and {@link JUnitAssertInstanceOfToAssertThat} in a single traversal.
+ * <p>
+ * Each invocation of a method of {@code org.junit.jupiter.api.Assertions} is classified once by its name and number of
+ * arguments, instead of being matched against the method matcher of each of those recipes, and is replaced using a
+ * template from the {@link JavaTemplateCache}.
+ */
+public class JUnitToAssertjSinglePass extends Recipe {
+
+    private static final String JUNIT = "org.junit.jupiter.api.Assertions";
+    private static final String ASSERTJ = "org.assertj.core.api.Assertions";
+    private static final String ASSERTIONS_FOR_CLASS_TYPES = "org.assertj.core.api.AssertionsForClassTypes";
+
+    @Override
+    public String getDisplayName() {
+        return "JUnit assertions to AssertJ in a single pass";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Convert JUnit-style `assertEquals()`, `assertNotEquals()`, `assertArrayEquals()`, `assertTrue()`, " +
+               "`assertFalse()`, `assertNull()`, `assertNotNull()`, `assertSame()`, `assertInstanceOf()`, " +
+               "`assertThrows()` and `fail()` to their AssertJ equivalents in one traversal of each source file.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(UsesIndex.usesType(JUNIT, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                JavaType.Method methodType = mi.getMethodType();
+                if (methodType == null || !TypeUtils.isOfClassType(methodType.getDeclaringType(), JUNIT)) {
+                    return mi;
+                }
+
+                List<Expression> args = mi.getArguments();
+                switch (mi.getSimpleName()) {
+                    case "assertEquals":
+                        return equality(mi, args, "any()", "isEqualTo", "isCloseTo", ctx);
+                    case "assertNotEquals":
+                        return equality(mi, args, "any()", "isNotEqualTo", "isNotCloseTo", ctx);
+                    case "assertArrayEquals":
+                        return equality(mi, args, "anyArray()", "containsExactly", "containsExactly", ctx);
+                    case "assertTrue":
+                        return bool(mi, methodType, args, "isTrue", ctx);
+                    case "assertFalse":
+                        return bool(mi, methodType, args, "isFalse", ctx);
+                    case "assertNull":
+                        return actualOnly(mi, args, "isNull", ctx);
+                    case "assertNotNull":
+                        return actualOnly(mi, args, "isNotNull", ctx);
+                    case "assertSame":
+                        return expectedAndActual(mi, args, "isSameAs", ctx);
+                    case "assertInstanceOf":
+                        return expectedAndActual(mi, args, "isInstanceOf", ctx);
+                    case "assertThrows":
+                        return assertThrows(mi, args, ctx);
+                    case "fail":
+                        return fail(mi, args, ctx);
+                    default:
+                        return mi;
+                }
+            }
+
+            /**
+             * {@code (expected, actual[, delta][, message])}, where a third argument is taken as a delta if it is a
+             * floating point number and as a message otherwise.
+             */
+            private J.MethodInvocation equality(J.MethodInvocation mi, List<Expression> args, String placeholder,
+                                                String equalTo, String closeTo, ExecutionContext ctx) {
+                if (args.size() < 2 || 4 < args.size()) {
+                    return mi;
+                }
+                maybeAddImport(ASSERTJ, "assertThat", false);
+                maybeRemoveImport(JUNIT);
+
+                Expression expected = args.get(0);
+                Expression actual = args.get(1);
+                String assertThat = "assertThat(#{" + placeholder + "})";
+                String expectation = "(#{" + placeholder + "}";
+                if (args.size() == 2) {
+                    return template(assertThat + "." + equalTo + expectation + ");", ctx, ASSERTJ + ".assertThat")
+                            .apply(getCursor(), mi.getCoordinates().replace(), actual, expected);
+                }
+                if (args.size() == 3 && !isFloatingPointType(args.get(2))) {
+                    return template(assertThat + ".as(#{any()})." + equalTo + expectation + ");", ctx, ASSERTJ + ".assertThat")
+                            .apply(getCursor(), mi.getCoordinates().replace(), actual, args.get(2), expected);
+                }
+
+                maybeAddImport(ASSERTJ, "within", false);
+                if (args.size() == 3) {
+                    return template(assertThat + "." + closeTo + expectation + ", within(#{any()}));", ctx, ASSERTJ + ".assertThat", ASSERTJ + ".within")
+                            .apply(getCursor(), mi.getCoordinates().replace(), actual, expected, args.get(2));
+                }
+                return template(assertThat + ".as(#{any()})." + closeTo + expectation + ", within(#{any()}));", ctx, ASSERTJ + ".assertThat", ASSERTJ + ".within")
+                        .apply(getCursor(), mi.getCoordinates().replace(), actual, args.get(3), expected, args.get(2));
+            }
+
+            /**
+             * {@code (condition[, message])}, but not the overloads taking a {@code BooleanSupplier}.
+             */
+            private J.MethodInvocation bool(J.MethodInvocation mi, JavaType.Method methodType, List<Expression> args,
+                                            String isBoolean, ExecutionContext ctx) {
+                if (methodType.getParameterTypes().isEmpty() ||
+                    methodType.getParameterTypes().get(0) != JavaType.Primitive.Boolean) {
+                    return mi;
+                }
+                maybeAddImport(ASSERTJ, "assertThat", false);
+                maybeRemoveImport(JUNIT);
+
+                if (args.size() == 1) {
+                    return template("assertThat(#{any(boolean)})." + isBoolean + "();", ctx, ASSERTJ + ".assertThat")
+                            .apply(getCursor(), mi.getCoordinates().replace(), args.get(0));
+                }
+                return template("assertThat(#{any(boolean)}).as(#{any()})." + isBoolean + "();", ctx, ASSERTJ + ".assertThat")
+                        .apply(getCursor(), mi.getCoordinates().replace(), args.get(0), args.get(1));
+            }
+
+            /**
+             * {@code (actual[, message])}
+             */
+            private J.MethodInvocation actualOnly(J.MethodInvocation mi, List<Expression> args, String assertion,
+                                                  ExecutionContext ctx) {
+                maybeAddImport(ASSERTJ, "assertThat", false);
+                maybeRemoveImport(JUNIT);
+
+                if (args.size() == 1) {
+                    return template("assertThat(#{any()})." + assertion + "();", ctx, ASSERTJ + ".assertThat")
+                            .apply(getCursor(), mi.getCoordinates().replace(), args.get(0));
+                }
+                return template("assertThat(#{any()}).as(#{any()})." + assertion + "();", ctx, ASSERTJ + ".assertThat")
+                        .apply(getCursor(), mi.getCoordinates().replace(), args.get(0), args.get(1));
+            }
+
+            /**
+             * {@code (expected, actual[, message])}
+             */
+            private J.MethodInvocation expectedAndActual(J.MethodInvocation mi, List<Expression> args, String assertion,
+                                                         ExecutionContext ctx) {
+                maybeAddImport(ASSERTJ, "assertThat", false);
+                maybeRemoveImport(JUNIT);
+
+                if (args.size() == 2) {
+                    return template("assertThat(#{any()})." + assertion + "(#{any()});", ctx, ASSERTJ + ".assertThat")
+                            .apply(getCursor(), mi.getCoordinates().replace(), args.get(1), args.get(0));
+                }
+                return template("assertThat(#{any()}).as(#{any()})." + assertion + "(#{any()});", ctx, ASSERTJ + ".assertThat")
+                        .apply(getCursor(), mi.getCoordinates().replace(), args.get(1), args.get(2), args.get(0));
+            }
+
+            /**
+             * {@code (expectedType, executable[, message])}, keeping the thrown exception with {@code actual()}
+             * where the result of {@code assertThrows} is used.
+             */
+            private J.MethodInvocation assertThrows(J.MethodInvocation mi, List<Expression> args, ExecutionContext ctx) {
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                String actual;
+                if (parent instanceof J.Assignment ||
+                    parent instanceof J.VariableDeclarations ||
+                    parent instanceof J.VariableDeclarations.NamedVariable ||
+                    parent instanceof J.Return ||
+                    parent instanceof J.Ternary) {
+                    actual = ".actual()";
+                } else if (parent instanceof J.Block) {
+                    actual = "";
+                } else {
+                    // Unknown parent type so not supported
+                    return mi;
+                }
+
+                maybeAddImport(ASSERTIONS_FOR_CLASS_TYPES, "assertThatExceptionOfType");
+                maybeRemoveImport(JUNIT + ".assertThrows");
+                maybeRemoveImport(JUNIT);
+
+                if (args.size() == 2) {
+                    return template("assertThatExceptionOfType(#{any(java.lang.Class)}).isThrownBy(#{any(org.assertj.core.api.ThrowableAssert.ThrowingCallable)})" + actual,
+                            ctx, ASSERTIONS_FOR_CLASS_TYPES + ".assertThatExceptionOfType")
+                            .apply(getCursor(), mi.getCoordinates().replace(), args.get(0), args.get(1));
+                }
+                return template("assertThatExceptionOfType(#{any()}).as(#{any()}).isThrownBy(#{any(org.assertj.core.api.ThrowableAssert.ThrowingCallable)})" + actual,
+                        ctx, ASSERTIONS_FOR_CLASS_TYPES + ".assertThatExceptionOfType")
+                        .apply(getCursor(), mi.getCoordinates().replace(), args.get(0), args.get(2), args.get(1));
+            }
+
+            /**
+             * {@code fail()}, {@code fail(String)}, {@code fail(Supplier<String>)}, {@code fail(Throwable)}
+             * and {@code fail(String, Throwable)}
+             */
+            private J.MethodInvocation fail(J.MethodInvocation mi, List<Expression> args, ExecutionContext ctx) {
+                maybeAddImport(ASSERTJ, "fail", false);
+                maybeRemoveImport(JUNIT + ".fail");
+                maybeRemoveImport(JUNIT);
+
+                Expression first = args.get(0);
+                if (args.size() == 1 && first instanceof J.Empty) {
+                    return template("fail(\"\");", ctx, ASSERTJ + ".fail")
+                            .apply(getCursor(), mi.getCoordinates().replace());
+                }
+                if (args.size() == 1 && !(first instanceof J.Literal) &&
+                    !TypeUtils.isAssignableTo("java.lang.String", first.getType())) {
+                    return template("fail(\"\", #{any()});", ctx, ASSERTJ + ".fail")
+                            .apply(getCursor(), mi.getCoordinates().replace(), first);
+                }
+                return template("fail(" + String.join(",", nCopies(args.size(), "#{any()}")) + ");", ctx, ASSERTJ + ".fail")
+                        .apply(getCursor(), mi.getCoordinates().replace(), args.toArray());
+            }
+
+            private boolean isFloatingPointType(Expression expression) {
+                JavaType.FullyQualified fullyQualified = TypeUtils.asFullyQualified(expression.getType());
+                if (fullyQualified != null) {
+                    String typeName = fullyQualified.getFullyQualifiedName();
+                    return "java.lang.Double".equals(typeName) || "java.lang.Float".equals(typeName);
+                }
+
+                JavaType.Primitive parameterType = TypeUtils.asPrimitive(expression.getType());
+                return parameterType == JavaType.Primitive.Double || parameterType == JavaType.Primitive.Float;
+            }
+        });
+    }
+
+    private static JavaTemplate template(String code, ExecutionContext ctx, String... staticImports) {
+        return JavaTemplateCache.builder(code)
+                .staticImports(staticImports)
+                .imports("java.util.function.Supplier")
+                .classpathFromResources("assertj-core-3")
+                .build(ctx);
+    }
+}
@@ -16,12 +16,14 @@
 package org.openrewrite.java.testing.assertj;
 
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 
 import java.util.ArrayList;
@@ -51,7 +53,9 @@ public class JUnitTryFailToAssertThatThrownBy extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaVisitor<ExecutionContext>() {
+        TreeVisitor<?, ExecutionContext> usesFail = UsesIndex.usesAnyMethod(
+                ASSERTJ_FAIL_MATCHER, JUPITER_FAIL_MATCHER, JUNIT4_FAIL_MATCHER, JUNIT_FAIL_MATCHER);
+        return Preconditions.check(usesFail, new JavaVisitor<ExecutionContext>() {
             @Override
             public J visitTry(J.Try tryBlock, ExecutionContext ctx) {
                 J.Try try_ = (J.Try) super.visitTry(tryBlock, ctx);
@@ -114,7 +118,7 @@ public class JUnitTryFailToAssertThatThrownBy extends Recipe {
                 return JavaTemplate.builder(template)
                         .contextSensitive()
                         .staticImports("org.assertj.core.api.Assertions.assertThatThrownBy")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                         .build()
                         .<J.MethodInvocation>apply(getCursor(), try_.getCoordinates().replace(), lambdaStatements.toArray());
             }
@@ -190,6 +194,6 @@ public class JUnitTryFailToAssertThatThrownBy extends Recipe {
 
                 return template.toString();
             }
-        };
+        });
     }
 }
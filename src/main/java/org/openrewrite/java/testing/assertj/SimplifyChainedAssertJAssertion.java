@@ -23,9 +23,9 @@ import org.openrewrite.Option;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.testing.internal.JavaTemplateCache;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
@@ -34,6 +34,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import static java.util.Collections.singleton;
 
@@ -41,6 +42,8 @@ import static java.util.Collections.singleton;
 @NoArgsConstructor
 public class SimplifyChainedAssertJAssertion extends Recipe {
 
+    static final MethodMatcher ASSERT_THAT_MATCHER = new MethodMatcher("org.assertj.core.api.Assertions assertThat(..)");
+
     @Option(displayName = "AssertJ chained assertion",
             description = "The chained AssertJ assertion to move to dedicated assertion.",
             example = "equals",
@@ -87,7 +90,6 @@ public class SimplifyChainedAssertJAssertion extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        MethodMatcher assertThatMatcher = new MethodMatcher("org.assertj.core.api.Assertions assertThat(..)");
         MethodMatcher chainedAssertMatcher = new MethodMatcher("java..* " + chainedAssertion + "(..)");
         MethodMatcher assertToReplace = new MethodMatcher("org.assertj.core.api.* " + this.assertToReplace + "(..)");
 
@@ -97,79 +99,105 @@ public class SimplifyChainedAssertJAssertion extends Recipe {
                 J.MethodInvocation mi = super.visitMethodInvocation(methodInvocation, ctx);
 
                 // assert has correct assertion
-                if (!assertToReplace.matches(mi) || mi.getArguments().size() != 1 || !(mi.getSelect() instanceof J.MethodInvocation)) {
-                    return mi;
-                }
-
-                // assertThat has method call
-                J.MethodInvocation assertThat = (J.MethodInvocation) mi.getSelect();
-                if (!assertThatMatcher.matches(assertThat) || !(assertThat.getArguments().get(0) instanceof J.MethodInvocation)) {
+                if (!assertToReplace.matches(mi)) {
                     return mi;
                 }
 
-                J.MethodInvocation assertThatArg = (J.MethodInvocation) assertThat.getArguments().get(0);
-                if (!chainedAssertMatcher.matches(assertThatArg)) {
+                J.MethodInvocation assertThatArg = getAssertThatArgument(mi);
+                if (assertThatArg == null || !chainedAssertMatcher.matches(assertThatArg)) {
                     return mi;
                 }
 
-                // Extract the actual argument for the new assertThat call
-                Expression actual = assertThatArg.getSelect() != null ? assertThatArg.getSelect() : assertThatArg;
-                if (!TypeUtils.isAssignableTo(requiredType, actual.getType())) {
-                    return mi;
-                }
-                List<Expression> arguments = new ArrayList<>();
-                arguments.add(actual);
-
-                String template = getStringTemplateAndAppendArguments(assertThatArg, mi, arguments);
-                return JavaTemplate.builder(String.format(template, dedicatedAssertion))
-                        .contextSensitive()
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5", "assertj-core-3"))
-                        .build()
-                        .apply(getCursor(), mi.getCoordinates().replace(), arguments.toArray());
+                J.MethodInvocation simplified = simplify(this, mi, assertThatArg, chainedAssertMatcher::matches, ctx);
+                return simplified == null ? mi : simplified;
             }
+        };
+    }
 
-            private String getStringTemplateAndAppendArguments(J.MethodInvocation assertThatArg, J.MethodInvocation methodToReplace, List<Expression> arguments) {
-                Expression assertThatArgument = assertThatArg.getArguments().get(0);
-                Expression methodToReplaceArgument = methodToReplace.getArguments().get(0);
-                boolean assertThatArgumentIsEmpty = assertThatArgument instanceof J.Empty;
-                boolean methodToReplaceArgumentIsEmpty = methodToReplaceArgument instanceof J.Empty;
-
-                // If both arguments are empty, then the select is already added to the arguments list, and we use a minimal template
-                if (assertThatArgumentIsEmpty && methodToReplaceArgumentIsEmpty) {
-                    return "assertThat(#{any()}).%s()";
-                }
-
-                // If both arguments are not empty, then we add both to the arguments to the arguments list, and return a template with two arguments
-                if (!assertThatArgumentIsEmpty && !methodToReplaceArgumentIsEmpty) {
-                    // This should only happen for map assertions using a key and value
-                    arguments.add(assertThatArgument);
-                    arguments.add(methodToReplaceArgument);
-                    return "assertThat(#{any()}).%s(#{any()}, #{any()})";
-                }
-
-                // If either argument is empty, we choose which one to add to the arguments list, and optionally extract the select
-                arguments.add(extractEitherArgument(assertThatArgumentIsEmpty, assertThatArgument, methodToReplaceArgument));
+    /**
+     * @return The method invoked on the actual value of an {@code assertThat(actual.method()).assertion(arg)} chain,
+     * or {@code null} when the assertion is not of that shape.
+     */
+    static J.@Nullable MethodInvocation getAssertThatArgument(J.MethodInvocation mi) {
+        if (mi.getArguments().size() != 1 || !(mi.getSelect() instanceof J.MethodInvocation)) {
+            return null;
+        }
+
+        // assertThat has method call
+        J.MethodInvocation assertThat = (J.MethodInvocation) mi.getSelect();
+        if (!ASSERT_THAT_MATCHER.matches(assertThat) || !(assertThat.getArguments().get(0) instanceof J.MethodInvocation)) {
+            return null;
+        }
+        return (J.MethodInvocation) assertThat.getArguments().get(0);
+    }
 
-                // Special case for Path.of() assertions
-                if ("java.nio.file.Path".equals(requiredType) && dedicatedAssertion.contains("Raw") &&
-                    TypeUtils.isAssignableTo("java.lang.String", assertThatArgument.getType())) {
-                    maybeAddImport("java.nio.file.Path");
-                    return "assertThat(#{any()}).%s(Path.of(#{any()}))";
-                }
+    /**
+     * Replaces the assertion {@code mi} with this recipe's dedicated assertion, provided {@code mi} was already
+     * found to use this recipe's assertion on this recipe's chained method {@code assertThatArg}.
+     *
+     * @return The dedicated assertion, or {@code null} when the actual value is not of the required type.
+     */
+    J.@Nullable MethodInvocation simplify(JavaVisitor<ExecutionContext> visitor, J.MethodInvocation mi,
+                                         J.MethodInvocation assertThatArg, Predicate<Expression> isChainedAssertion,
+                                         ExecutionContext ctx) {
+        // Extract the actual argument for the new assertThat call
+        Expression actual = assertThatArg.getSelect() != null ? assertThatArg.getSelect() : assertThatArg;
+        if (!TypeUtils.isAssignableTo(requiredType, actual.getType())) {
+            return null;
+        }
+        List<Expression> arguments = new ArrayList<>();
+        arguments.add(actual);
+
+        String template = getStringTemplateAndAppendArguments(visitor, assertThatArg, mi, arguments, isChainedAssertion);
+        return JavaTemplateCache.builder(String.format(template, dedicatedAssertion))
+                .contextSensitive()
+                .classpathFromResources("junit-jupiter-api-5", "assertj-core-3")
+                .build(ctx)
+                .apply(visitor.getCursor(), mi.getCoordinates().replace(), arguments.toArray());
+    }
 
-                return "assertThat(#{any()}).%s(#{any()})";
-            }
+    private String getStringTemplateAndAppendArguments(JavaVisitor<ExecutionContext> visitor, J.MethodInvocation assertThatArg, J.MethodInvocation methodToReplace,
+                                                       List<Expression> arguments, Predicate<Expression> isChainedAssertion) {
+        Expression assertThatArgument = assertThatArg.getArguments().get(0);
+        Expression methodToReplaceArgument = methodToReplace.getArguments().get(0);
+        boolean assertThatArgumentIsEmpty = assertThatArgument instanceof J.Empty;
+        boolean methodToReplaceArgumentIsEmpty = methodToReplaceArgument instanceof J.Empty;
+
+        // If both arguments are empty, then the select is already added to the arguments list, and we use a minimal template
+        if (assertThatArgumentIsEmpty && methodToReplaceArgumentIsEmpty) {
+            return "assertThat(#{any()}).%s()";
+        }
+
+        // If both arguments are not empty, then we add both to the arguments to the arguments list, and return a template with two arguments
+        if (!assertThatArgumentIsEmpty && !methodToReplaceArgumentIsEmpty) {
+            // This should only happen for map assertions using a key and value
+            arguments.add(assertThatArgument);
+            arguments.add(methodToReplaceArgument);
+            return "assertThat(#{any()}).%s(#{any()}, #{any()})";
+        }
+
+        // If either argument is empty, we choose which one to add to the arguments list, and optionally extract the select
+        arguments.add(extractEitherArgument(assertThatArgumentIsEmpty, assertThatArgument, methodToReplaceArgument, isChainedAssertion));
+
+        // Special case for Path.of() assertions
+        if ("java.nio.file.Path".equals(requiredType) && dedicatedAssertion.contains("Raw") &&
+            TypeUtils.isAssignableTo("java.lang.String", assertThatArgument.getType())) {
+            visitor.maybeAddImport("java.nio.file.Path");
+            return "assertThat(#{any()}).%s(Path.of(#{any()}))";
+        }
+
+        return "assertThat(#{any()}).%s(#{any()})";
+    }
 
-            private Expression extractEitherArgument(boolean assertThatArgumentIsEmpty, Expression assertThatArgument, Expression methodToReplaceArgument) {
-                if (assertThatArgumentIsEmpty) {
-                    return methodToReplaceArgument;
-                }
-                // Only on the assertThat argument do we possibly replace the argument with the select; such as list.size() -> list
-                if (chainedAssertMatcher.matches(assertThatArgument)) {
-                    return Objects.requireNonNull(((J.MethodInvocation) assertThatArgument).getSelect());
-                }
-                return assertThatArgument;
-            }
-        };
+    private static Expression extractEitherArgument(boolean assertThatArgumentIsEmpty, Expression assertThatArgument, Expression methodToReplaceArgument,
+                                                    Predicate<Expression> isChainedAssertion) {
+        if (assertThatArgumentIsEmpty) {
+            return methodToReplaceArgument;
+        }
+        // Only on the assertThat argument do we possibly replace the argument with the select; such as list.size() -> list
+        if (isChainedAssertion.test(assertThatArgument)) {
+            return Objects.requireNonNull(((J.MethodInvocation) assertThatArgument).getSelect());
+        }
+        return assertThatArgument;
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.testing.internal.DeclarativeRules;
+import org.openrewrite.java.testing.internal.UsesIndex;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Applies all {@link SimplifyChainedAssertJAssertion} rules of the {@value #RULES} recipe in a single traversal.
+ * The rules are read once from that recipe's YAML definition, which remains the place to add or change them,
+ * and are looked up by the name of the assertion and of the chained method instead of being tried one by one.
+ */
+public class SimplifyChainedAssertJAssertionsSinglePass extends Recipe {
+
+    static final String RULES = "org.openrewrite.java.testing.assertj.SimplifyChainedAssertJAssertions";
+
+    private static volatile @Nullable Map<String, Map<String, List<SimplifyChainedAssertJAssertion>>> rulesByAssertion;
+
+    @Override
+    public String getDisplayName() {
+        return "Simplify AssertJ chained assertions in a single pass";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Replace AssertJ assertions where a method is called on the actual value with a dedicated assertion. " +
+               "Applies the same rules as `" + RULES + "`, in one traversal of each source file.";
+    }
+
+    @Override
+    public Set<String> getTags() {
+        return singleton("RSPEC-S5838");
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        Map<String, Map<String, List<SimplifyChainedAssertJAssertion>>> rules = getRulesByAssertion();
+        return Preconditions.check(
+                UsesIndex.usesMethod(SimplifyChainedAssertJAssertion.ASSERT_THAT_MATCHER),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation methodInvocation, ExecutionContext ctx) {
+                        J.MethodInvocation mi = super.visitMethodInvocation(methodInvocation, ctx);
+
+                        Map<String, List<SimplifyChainedAssertJAssertion>> rulesByChainedAssertion = rules.getOrDefault(mi.getSimpleName(), emptyMap());
+                        if (rulesByChainedAssertion.isEmpty() || !isDeclaredIn(mi, "org.assertj.core.api", false)) {
+                            return mi;
+                        }
+
+                        J.MethodInvocation assertThatArg = SimplifyChainedAssertJAssertion.getAssertThatArgument(mi);
+                        if (assertThatArg == null || !isDeclaredIn(assertThatArg, "java", true)) {
+                            return mi;
+                        }
+
+                        String chainedAssertion = assertThatArg.getSimpleName();
+                        for (SimplifyChainedAssertJAssertion rule : rulesByChainedAssertion.getOrDefault(chainedAssertion, emptyList())) {
+                            J.MethodInvocation simplified = rule.simplify(this, mi, assertThatArg,
+                                    e -> e instanceof J.MethodInvocation &&
+                                         chainedAssertion.equals(((J.MethodInvocation) e).getSimpleName()) &&
+                                         isDeclaredIn((J.MethodInvocation) e, "java", true),
+                                    ctx);
+                            if (simplified != null) {
+                                return simplified;
+                            }
+                        }
+                        return mi;
+                    }
+                });
+    }
+
+    /**
+     * The equivalent of the {@code org.assertj.core.api.*} and {@code java..*} type patterns
+     * of the {@link MethodMatcher}s used by {@link SimplifyChainedAssertJAssertion}.
+     */
+    private static boolean isDeclaredIn(J.MethodInvocation method, String packageName, boolean includeSubpackages) {
+        if (method.getMethodType() == null) {
+            return false;
+        }
+        JavaType.FullyQualified declaringType = method.getMethodType().getDeclaringType();
+        String declaringPackage = declaringType.getPackageName();
+        return declaringPackage.equals(packageName) ||
+               includeSubpackages && declaringPackage.startsWith(packageName + ".");
+    }
+
+    static Map<String, Map<String, List<SimplifyChainedAssertJAssertion>>> getRulesByAssertion() {
+        Map<String, Map<String, List<SimplifyChainedAssertJAssertion>>> rules = rulesByAssertion;
+        if (rules == null) {
+            synchronized (SimplifyChainedAssertJAssertionsSinglePass.class) {
+                rules = rulesByAssertion;
+                if (rules == null) {
+                    rules = new HashMap<>();
+                    for (SimplifyChainedAssertJAssertion rule : DeclarativeRules.load(
+                            SimplifyChainedAssertJAssertion.class, "/META-INF/rewrite/assertj.yml", RULES)) {
+                        rules.computeIfAbsent(requireNonNull(rule.assertToReplace), k -> new HashMap<>())
+                                .computeIfAbsent(requireNonNull(rule.chainedAssertion), k -> new ArrayList<>())
+                                .add(rule);
+                    }
+                    rulesByAssertion = rules;
+                }
+            }
+        }
+        return rules;
+    }
+}
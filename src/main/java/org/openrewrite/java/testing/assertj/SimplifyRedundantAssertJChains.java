@@ -21,7 +21,7 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 
 public class SimplifyRedundantAssertJChains extends Recipe {
@@ -97,10 +97,10 @@ public class SimplifyRedundantAssertJChains extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesMethod<>(hasSizeMatcher),
-                        new UsesMethod<>(isNotNullMatcher),
-                        new UsesMethod<>(isNotEmptyMatcher),
-                        new UsesMethod<>(isPresentMatcher)
+                        UsesIndex.usesMethod(hasSizeMatcher),
+                        UsesIndex.usesMethod(isNotNullMatcher),
+                        UsesIndex.usesMethod(isNotEmptyMatcher),
+                        UsesIndex.usesMethod(isPresentMatcher)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
             @Override
@@ -20,10 +20,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
@@ -48,8 +48,8 @@ public class SimplifySequencedCollectionAssertions extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesMethod<>(GET_FIRST_MATCHER),
-                        new UsesMethod<>(GET_LAST_MATCHER)
+                        UsesIndex.usesMethod(GET_FIRST_MATCHER),
+                        UsesIndex.usesMethod(GET_LAST_MATCHER)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
@@ -79,7 +79,7 @@ public class SimplifySequencedCollectionAssertions extends Recipe {
                     private J.MethodInvocation assertThat(J.MethodInvocation mi, J.MethodInvocation argMethod, String dedicatedAssertion, ExecutionContext ctx) {
                         return JavaTemplate.builder("assertThat(#{any(java.lang.Iterable)})." + dedicatedAssertion + "()")
                                 .staticImports("org.assertj.core.api.Assertions.assertThat")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                                 .build()
                                 .apply(getCursor(), mi.getCoordinates().replace(), argMethod.getSelect());
                     }
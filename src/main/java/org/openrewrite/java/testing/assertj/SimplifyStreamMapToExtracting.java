@@ -20,10 +20,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 
 public class SimplifyStreamMapToExtracting extends Recipe {
@@ -48,8 +48,8 @@ public class SimplifyStreamMapToExtracting extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.and(
-                        new UsesMethod<>(STREAM_MATCHER),
-                        new UsesMethod<>(MAP_MATCHER)
+                        UsesIndex.usesMethod(STREAM_MATCHER),
+                        UsesIndex.usesMethod(MAP_MATCHER)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
@@ -75,7 +75,7 @@ public class SimplifyStreamMapToExtracting extends Recipe {
                         // Apply the transformation
                         return JavaTemplate.builder("assertThat(#{any(java.lang.Iterable)}).extracting(#{any(java.util.function.Function)})")
                                 .staticImports("org.assertj.core.api.Assertions.assertThat")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                                 .build()
                                 .apply(getCursor(),
                                         mi.getCoordinates().replace(),
@@ -22,6 +22,7 @@ import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
 import org.openrewrite.java.tree.J;
 
 public class AssertFalseNegationToAssertTrue extends Recipe {
@@ -47,8 +48,7 @@ public class AssertFalseNegationToAssertTrue extends Recipe {
 
             private JavaParser.Builder<?, ?> javaParser(ExecutionContext ctx) {
                 if (javaParser == null) {
-                    javaParser = JavaParser.fromJavaVersion()
-                            .classpathFromResources(ctx, "junit-jupiter-api-5");
+                    javaParser = JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5");
                 }
                 return javaParser;
             }
@@ -22,7 +22,7 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.Flag;
 import org.openrewrite.java.tree.J;
@@ -79,8 +79,7 @@ public class AssertionsArgumentOrder extends Recipe {
         matchers.add(jupiterAssertIterableEqualsMatcher);
         matchers.add(jupiterAssertNullMatcher);
         matchers.addAll(Arrays.asList(testNgMatcher));
-        //noinspection unchecked
-        precondition = Preconditions.or(matchers.stream().map(UsesMethod::new).toArray(TreeVisitor[]::new));
+        precondition = UsesIndex.usesAnyMethod(matchers.toArray(new MethodMatcher[0]));
     }
 
     @Override
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.cleanup;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.testing.internal.JavaTemplateCache;
+import org.openrewrite.java.testing.internal.UsesIndex;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
+
+/**
+ * Applies the simplifications of {@link AssertTrueNegationToAssertFalse}, {@link AssertFalseNegationToAssertTrue},
+ * {@link AssertTrueEqualsToAssertEquals}, {@link AssertTrueComparisonToAssertEquals},
+ * {@link AssertFalseEqualsToAssertNotEquals}, {@link AssertEqualsNullToAssertNull},
+ * {@link AssertFalseNullToAssertNotNull}, {@link AssertTrueNullToAssertNull},
+ * {@link AssertEqualsBooleanToAssertBoolean}, {@link AssertNotEqualsBooleanToAssertBoolean},
+ * {@link AssertLiteralBooleanToFail} and {@link AssertLiteralBooleanRemoved} in a single traversal.
+ * <p>
+ * Each assertion is simplified until none of those rules applies any more, such that for instance
+ * {@code assertFalse(!(a == null))} becomes {@code assertNull(a)} without going through {@code assertTrue(a == null)}
+ * in another cycle, and the result is only then turned into a method invocation.
+ */
+public class CleanupAssertionsSinglePass extends Recipe {
+    private static final String ASSERTIONS = "org.junit.jupiter.api.Assertions";
+
+    private static final Assertion REMOVED = new Assertion("", emptyList(), null);
+
+    @Override
+    public String getDisplayName() {
+        return "Clean up JUnit Jupiter assertions in a single pass";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Simplifies JUnit Jupiter assertions to their most-direct equivalents, " +
+               "such as `assertTrue(a == null)` to `assertNull(a)` and `assertEquals(false, b)` to `assertFalse(b)`, " +
+               "and removes `assertTrue(true)` and `assertFalse(false)`.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(UsesIndex.usesType(ASSERTIONS, false), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public @Nullable J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                JavaType.Method methodType = mi.getMethodType();
+                if (methodType == null || !TypeUtils.isOfClassType(methodType.getDeclaringType(), ASSERTIONS)) {
+                    return mi;
+                }
+                Assertion original = Assertion.of(mi);
+                if (original == null) {
+                    return mi;
+                }
+
+                // Only statements can be removed, not for instance the body of a lambda
+                boolean removable = getCursor().getParentTreeCursor().getValue() instanceof J.Block;
+                Assertion assertion = original;
+                for (Assertion simplified = simplify(assertion, removable); simplified != null; simplified = simplify(assertion, removable)) {
+                    assertion = simplified;
+                }
+                if (assertion == original) {
+                    return mi;
+                }
+                if (assertion == REMOVED) {
+                    maybeRemoveImport(ASSERTIONS);
+                    return null;
+                }
+
+                List<Expression> args = new ArrayList<>(assertion.getOperands());
+                List<String> placeholders = new ArrayList<>(nCopies(args.size(), assertion.isBoolean() ?
+                        "#{any(boolean)}" : "#{any(java.lang.Object)}"));
+                Expression message = assertion.getMessage();
+                if (message != null) {
+                    args.add(message);
+                    placeholders.add("#{any()}");
+                }
+                String code = assertion.getName() + "(" + String.join(", ", placeholders) + ")";
+                JavaTemplateCache.Builder template;
+                if (mi.getSelect() == null) {
+                    maybeRemoveImport(ASSERTIONS);
+                    maybeAddImport(ASSERTIONS, assertion.getName());
+                    template = JavaTemplateCache.builder(code)
+                            .staticImports(ASSERTIONS + "." + assertion.getName());
+                } else {
+                    template = JavaTemplateCache.builder("Assertions." + code)
+                            .imports(ASSERTIONS);
+                }
+                return template
+                        .classpathFromResources("junit-jupiter-api-5")
+                        .build(ctx)
+                        .apply(updateCursor(mi), mi.getCoordinates().replace(), args.toArray());
+            }
+        });
+    }
+
+    /**
+     * The decision table of the rules, applied to an assertion that may itself be the result of an earlier rule.
+     *
+     * @return The simplified assertion, or {@code null} if no rule applies.
+     */
+    private static @Nullable Assertion simplify(Assertion assertion, boolean removable) {
+        List<Expression> operands = assertion.getOperands();
+        switch (assertion.getName()) {
+            case "assertTrue":
+            case "assertFalse": {
+                boolean assertTrue = "assertTrue".equals(assertion.getName());
+                Expression condition = operands.get(0);
+                if (J.Literal.isLiteralValue(condition, assertTrue) && removable) {
+                    return REMOVED;
+                } else if (J.Literal.isLiteralValue(condition, !assertTrue)) {
+                    return assertion.to("fail", emptyList());
+                } else if (condition instanceof J.Unary && ((J.Unary) condition).getOperator() == J.Unary.Type.Not) {
+                    return assertion.to(assertTrue ? "assertFalse" : "assertTrue", singletonList(unwrap(((J.Unary) condition).getExpression())));
+                } else if (condition instanceof J.Binary && ((J.Binary) condition).getOperator() == J.Binary.Type.Equal) {
+                    J.Binary binary = (J.Binary) condition;
+                    if (J.Literal.isLiteralValue(binary.getLeft(), null) || J.Literal.isLiteralValue(binary.getRight(), null)) {
+                        Expression nonNull = J.Literal.isLiteralValue(binary.getRight(), null) ? binary.getLeft() : binary.getRight();
+                        return assertion.to(assertTrue ? "assertNull" : "assertNotNull", singletonList(nonNull));
+                    } else if (assertTrue && isPrimitiveComparison(binary)) {
+                        return assertion.to("assertEquals", asList(binary.getLeft(), binary.getRight()));
+                    }
+                } else if (condition instanceof J.MethodInvocation) {
+                    J.MethodInvocation equals = (J.MethodInvocation) condition;
+                    if ("equals".equals(equals.getSimpleName()) && equals.getSelect() != null &&
+                        equals.getArguments().size() == 1 && !(equals.getArguments().get(0) instanceof J.Empty)) {
+                        return assertion.to(assertTrue ? "assertEquals" : "assertNotEquals", asList(equals.getSelect(), equals.getArguments().get(0)));
+                    }
+                }
+                return null;
+            }
+            case "assertEquals":
+                if (isNullLiteral(operands.get(0)) || isNullLiteral(operands.get(1))) {
+                    return assertion.to("assertNull", singletonList(isNullLiteral(operands.get(0)) ? operands.get(1) : operands.get(0)));
+                } else if (isBooleanLiteral(operands.get(0)) && operands.get(1).getType() == JavaType.Primitive.Boolean) {
+                    return assertion.to(J.Literal.isLiteralValue(operands.get(0), true) ? "assertTrue" : "assertFalse", singletonList(operands.get(1)));
+                }
+                return null;
+            case "assertNotEquals":
+                if (isBooleanLiteral(operands.get(0))) {
+                    return assertion.to(J.Literal.isLiteralValue(operands.get(0), true) ? "assertFalse" : "assertTrue", singletonList(operands.get(1)));
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Prevent breaking identity comparison.
+     * Objects that are compared with == should not be compared with `.equals()` instead.
+     * Out of the primitives == is not allowed when both are of type String
+     */
+    private static boolean isPrimitiveComparison(J.Binary binary) {
+        return binary.getLeft().getType() instanceof JavaType.Primitive &&
+               binary.getRight().getType() instanceof JavaType.Primitive &&
+               !(binary.getLeft().getType() == JavaType.Primitive.String &&
+                 binary.getRight().getType() == JavaType.Primitive.String);
+    }
+
+    private static boolean isNullLiteral(Expression expression) {
+        return expression.getType() == JavaType.Primitive.Null;
+    }
+
+    private static boolean isBooleanLiteral(Expression expression) {
+        return expression instanceof J.Literal && expression.getType() == JavaType.Primitive.Boolean;
+    }
+
+    private static Expression unwrap(Expression expression) {
+        Expression e = expression;
+        while (e instanceof J.Parentheses && ((J.Parentheses<?>) e).getTree() instanceof Expression) {
+            e = (Expression) ((J.Parentheses<?>) e).getTree();
+        }
+        return e;
+    }
+
+    @Value
+    private static class Assertion {
+        String name;
+
+        /**
+         * The arguments of the assertion, without its message.
+         */
+        List<Expression> operands;
+
+        @Nullable
+        Expression message;
+
+        Assertion to(String name, List<Expression> operands) {
+            return new Assertion(name, operands, message);
+        }
+
+        boolean isBoolean() {
+            return "assertTrue".equals(name) || "assertFalse".equals(name);
+        }
+
+        static @Nullable Assertion of(J.MethodInvocation mi) {
+            int operands;
+            switch (mi.getSimpleName()) {
+                case "assertTrue":
+                case "assertFalse":
+                    operands = 1;
+                    break;
+                case "assertEquals":
+                case "assertNotEquals":
+                    operands = 2;
+                    break;
+                default:
+                    return null;
+            }
+            List<Expression> args = mi.getArguments();
+            if (args.size() != operands && args.size() != operands + 1) {
+                return null;
+            }
+            return new Assertion(mi.getSimpleName(), args.subList(0, operands), args.size() > operands ? args.get(operands) : null);
+        }
+    }
+}
@@ -24,7 +24,7 @@ import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.ChangeMethodName;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.J.MethodDeclaration;
 import org.openrewrite.java.tree.JavaType;
@@ -67,11 +67,11 @@ public class RemoveTestPrefix extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesType<>("org.junit.jupiter.api.Test", false),
-                        new UsesType<>("org.junit.jupiter.api.TestTemplate", false),
-                        new UsesType<>("org.junit.jupiter.api.RepeatedTest", false),
-                        new UsesType<>("org.junit.jupiter.params.ParameterizedTest", false),
-                        new UsesType<>("org.junit.jupiter.api.TestFactory", false)
+                        UsesIndex.usesType("org.junit.jupiter.api.Test", false),
+                        UsesIndex.usesType("org.junit.jupiter.api.TestTemplate", false),
+                        UsesIndex.usesType("org.junit.jupiter.api.RepeatedTest", false),
+                        UsesIndex.usesType("org.junit.jupiter.params.ParameterizedTest", false),
+                        UsesIndex.usesType("org.junit.jupiter.api.TestFactory", false)
                 ),
                 new RemoveTestPrefixVisitor());
     }
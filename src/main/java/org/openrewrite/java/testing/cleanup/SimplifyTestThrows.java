@@ -19,7 +19,7 @@ import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -52,11 +52,11 @@ public class SimplifyTestThrows extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesType<>("org.junit.jupiter.api.Test", false),
-                        new UsesType<>("org.junit.jupiter.api.TestTemplate", false),
-                        new UsesType<>("org.junit.jupiter.api.RepeatedTest", false),
-                        new UsesType<>("org.junit.jupiter.params.ParameterizedTest", false),
-                        new UsesType<>("org.junit.jupiter.api.TestFactory", false)
+                        UsesIndex.usesType("org.junit.jupiter.api.Test", false),
+                        UsesIndex.usesType("org.junit.jupiter.api.TestTemplate", false),
+                        UsesIndex.usesType("org.junit.jupiter.api.RepeatedTest", false),
+                        UsesIndex.usesType("org.junit.jupiter.params.ParameterizedTest", false),
+                        UsesIndex.usesType("org.junit.jupiter.api.TestFactory", false)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
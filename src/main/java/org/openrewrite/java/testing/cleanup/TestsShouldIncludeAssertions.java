@@ -16,14 +16,14 @@
 package org.openrewrite.java.testing.cleanup;
 
 import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.AssertionClassifier;
+import org.openrewrite.java.testing.internal.JavaTemplateCache;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
@@ -38,7 +38,7 @@ import static java.util.Collections.singletonList;
 @SuppressWarnings("SimplifyStreamApiCallChains")
 @Value
 @EqualsAndHashCode(callSuper = false)
-public class TestsShouldIncludeAssertions extends Recipe {
+public class TestsShouldIncludeAssertions extends ScanningRecipe<TestsShouldIncludeAssertions.Accumulator> {
     private static final List<String> TEST_ANNOTATIONS = singletonList("org.junit.jupiter.api.Test");
 
     private static final List<String> DEFAULT_ASSERTIONS = Arrays.asList(
@@ -97,34 +97,145 @@ public class TestsShouldIncludeAssertions extends Recipe {
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        AssertionClassifier assertions = assertionClassifier();
+        return new JavaIsoVisitor<ExecutionContext>() {
+            private @Nullable String enclosingMethod;
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                String outerMethod = enclosingMethod;
+                enclosingMethod = method.getMethodType() == null ? null : methodKey(method.getMethodType());
+                if (outerMethod != null) {
+                    // A method of an anonymous or local class counts towards the method it is declared in
+                    if (enclosingMethod == null) {
+                        enclosingMethod = outerMethod;
+                    } else {
+                        acc.calls(outerMethod, enclosingMethod);
+                    }
+                }
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                enclosingMethod = outerMethod;
+                return m;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                if (enclosingMethod != null && mi.getMethodType() != null) {
+                    if (assertions.isAssertion(mi.getMethodType())) {
+                        acc.asserts(enclosingMethod);
+                    } else {
+                        acc.calls(enclosingMethod, methodKey(mi.getMethodType()));
+                    }
+                }
+                return mi;
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+                J.MemberReference m = super.visitMemberReference(memberRef, ctx);
+                if (enclosingMethod != null && m.getMethodType() != null) {
+                    if (assertions.isAssertion(m.getMethodType())) {
+                        acc.asserts(enclosingMethod);
+                    } else {
+                        acc.calls(enclosingMethod, methodKey(m.getMethodType()));
+                    }
+                }
+                return m;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                J.NewClass n = super.visitNewClass(newClass, ctx);
+                if (enclosingMethod != null && n.getConstructorType() != null) {
+                    acc.calls(enclosingMethod, methodKey(n.getConstructorType()));
+                }
+                return n;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
         return Preconditions.check(
                 Preconditions.and(
-                        new UsesType<>("org.junit.jupiter.api.Test", false),
+                        UsesIndex.usesType("org.junit.jupiter.api.Test", false),
                         Preconditions.not(new KotlinFileChecker<>())
                 ),
-                new TestShouldIncludeAssertionsVisitor(additionalAsserts));
+                new TestShouldIncludeAssertionsVisitor(assertionClassifier(), acc));
     }
 
-    private static class TestShouldIncludeAssertionsVisitor extends JavaIsoVisitor<ExecutionContext> {
+    private AssertionClassifier assertionClassifier() {
+        List<String> additionalAssertions = new ArrayList<>();
+        if (additionalAsserts != null) {
+            additionalAssertions.addAll(Arrays.asList(additionalAsserts.split(",\\s*")));
+        }
+        return AssertionClassifier.of(DEFAULT_ASSERTIONS, additionalAssertions);
+    }
+
+    /**
+     * The methods of all source files that transitively invoke an assertion, such that helpers like
+     * {@code BaseIT#verifyResponse()} or those of a shared test utility class count as assertions too.
+     * <p>
+     * Methods are identified by declaring type, name and number of parameters, so overloads with the same number of
+     * parameters are considered to assert if any of them does. A method is marked as soon as it is found to invoke an
+     * assertion or a marked method, and its callers are marked in turn, so the index is complete once all source files
+     * have been scanned, regardless of their order.
+     * <p>
+     * Method references and constructor calls count as invocations, and the methods of anonymous and local classes
+     * count towards the method they are declared in. Calls that cannot be attributed, such as those of methods
+     * whose types are missing from the classpath, are ignored.
+     */
+    public static class Accumulator {
+        final Set<String> assertingMethods = new HashSet<>();
+        final Map<String, Set<String>> callers = new HashMap<>();
 
-        private final Map<String, Set<J.Block>> matcherPatternToClassInvocation = new HashMap<>();
-        private final List<String> additionalAsserts;
+        void asserts(String method) {
+            Deque<String> marked = new ArrayDeque<>();
+            if (assertingMethods.add(method)) {
+                marked.push(method);
+            }
+            while (!marked.isEmpty()) {
+                Set<String> methodCallers = callers.remove(marked.pop());
+                if (methodCallers != null) {
+                    for (String caller : methodCallers) {
+                        if (assertingMethods.add(caller)) {
+                            marked.push(caller);
+                        }
+                    }
+                }
+            }
+        }
 
-        TestShouldIncludeAssertionsVisitor(@Nullable String additionalAsserts) {
-            List<String> assertions = new ArrayList<>();
-            if (additionalAsserts != null) {
-                assertions.addAll(Arrays.asList(additionalAsserts.split(",\\s*")));
+        void calls(String caller, String callee) {
+            if (assertingMethods.contains(callee)) {
+                asserts(caller);
+            } else if (!assertingMethods.contains(caller)) {
+                callers.computeIfAbsent(callee, k -> new HashSet<>()).add(caller);
             }
-            this.additionalAsserts = assertions;
         }
+    }
+
+    private static String methodKey(JavaType.Method method) {
+        return method.getDeclaringType().getFullyQualifiedName() + "#" + method.getName() + "/" + method.getParameterTypes().size();
+    }
+
+    @RequiredArgsConstructor
+    private static class TestShouldIncludeAssertionsVisitor extends JavaIsoVisitor<ExecutionContext> {
+        private final AssertionClassifier assertions;
+        private final Accumulator acc;
 
         @Override
         public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
             if ((!methodIsTest(method) || method.getBody() == null || method.getBody().getStatements().isEmpty()) ||
                     methodIsDisabled(method) ||
-                    methodHasAssertion(method.getBody()) ||
-                    methodInvocationInBodyContainsAssertion()) {
+                    methodReachesAssertion(method, method.getBody())) {
                 return method;
             }
 
@@ -132,11 +243,10 @@ public class TestsShouldIncludeAssertions extends Recipe {
             J.Block body = md.getBody();
             if (body != null) {
                 maybeAddImport("org.junit.jupiter.api.Assertions", "assertDoesNotThrow");
-                md = JavaTemplate.builder("assertDoesNotThrow(() -> #{any()});")
+                md = JavaTemplateCache.builder("assertDoesNotThrow(() -> #{any()});")
                         .staticImports("org.junit.jupiter.api.Assertions.assertDoesNotThrow")
-                        .javaParser(JavaParser.fromJavaVersion()
-                                .classpathFromResources(ctx, "junit-jupiter-api-5"))
-                        .build()
+                        .classpathFromResources("junit-jupiter-api-5")
+                        .build(ctx)
                         .apply(updateCursor(md), md.getCoordinates().replaceBody(), body);
             }
             return md;
@@ -162,13 +272,20 @@ public class TestsShouldIncludeAssertions extends Recipe {
             return false;
         }
 
+        private boolean methodReachesAssertion(J.MethodDeclaration method, J.Block body) {
+            if (method.getMethodType() == null) {
+                return methodHasAssertion(body);
+            }
+            return acc.assertingMethods.contains(methodKey(method.getMethodType()));
+        }
+
         private boolean methodHasAssertion(J.Block body) {
             AtomicBoolean hasAssertion = new AtomicBoolean(Boolean.FALSE);
             JavaIsoVisitor<AtomicBoolean> findAssertionVisitor = new JavaIsoVisitor<AtomicBoolean>() {
                 @Override
                 public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean atomicBoolean) {
                     J.MethodInvocation mi = super.visitMethodInvocation(method, atomicBoolean);
-                    if (isAssertion(mi)) {
+                    if (assertions.isAssertion(mi.getMethodType())) {
                         atomicBoolean.set(Boolean.TRUE);
                     }
                     return mi;
@@ -177,79 +294,5 @@ public class TestsShouldIncludeAssertions extends Recipe {
             findAssertionVisitor.visit(body, hasAssertion);
             return hasAssertion.get();
         }
-
-        private boolean methodInvocationInBodyContainsAssertion() {
-            J.ClassDeclaration classDeclaration = getCursor().dropParentUntil(org.openrewrite.java.tree.J.ClassDeclaration.class::isInstance).getValue();
-
-            JavaIsoVisitor<Set<MethodMatcher>> findMethodDeclarationsVisitor = new JavaIsoVisitor<Set<MethodMatcher>>() {
-                @Override
-                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Set<MethodMatcher> methodMatchers) {
-                    J.MethodInvocation mi = super.visitMethodInvocation(method, methodMatchers);
-                    if (classDeclaration.getType() != null && mi.getMethodType() != null) {
-                        JavaType.Method mType = mi.getMethodType();
-                        if (classDeclaration.getType().getFullyQualifiedName().equals(mType.getDeclaringType().getFullyQualifiedName())) {
-                            methodMatchers.add(new MethodMatcher(mType));
-                        }
-                    }
-                    return mi;
-                }
-            };
-
-            Set<MethodMatcher> methodMatchers = new HashSet<>();
-            findMethodDeclarationsVisitor.visit(classDeclaration, methodMatchers);
-            Set<J.Block> methodBodies = new HashSet<>();
-
-            methodMatchers.forEach(matcher -> {
-                Set<J.Block> declarationBodies = matcherPatternToClassInvocation.computeIfAbsent(matcher.toString(),
-                        k -> findMethodDeclarations(classDeclaration, matcher));
-                methodBodies.addAll(declarationBodies);
-            });
-            return methodBodies.stream().anyMatch(this::methodHasAssertion);
-        }
-
-        private Set<J.Block> findMethodDeclarations(J.ClassDeclaration classDeclaration, MethodMatcher methodMatcher) {
-            JavaIsoVisitor<Set<J.Block>> findMethodDeclarationVisitor = new JavaIsoVisitor<Set<J.Block>>() {
-                @Override
-                public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Set<J.Block> blocks) {
-                    J.MethodDeclaration m = super.visitMethodDeclaration(method, blocks);
-                    if (methodMatcher.matches(m, classDeclaration)) {
-                        if (m.getBody() != null) {
-                            blocks.add(m.getBody());
-                        }
-                    }
-                    return m;
-                }
-            };
-
-            Set<J.Block> blocks = new HashSet<>();
-            findMethodDeclarationVisitor.visit(classDeclaration, blocks);
-            return blocks;
-        }
-
-        private boolean isAssertion(J.MethodInvocation methodInvocation) {
-            if (methodInvocation.getMethodType() == null) {
-                return false;
-            }
-            String fqt = methodInvocation.getMethodType().getDeclaringType().getFullyQualifiedName();
-            for (String assertionClassOrPackage : DEFAULT_ASSERTIONS) {
-                if (fqt.startsWith(assertionClassOrPackage)) {
-                    return true;
-                }
-            }
-            String methodFqn = methodInvocation.getMethodType().getDeclaringType().getFullyQualifiedName() + "." + methodInvocation.getSimpleName();
-            for (String assertMethod : DEFAULT_ASSERTIONS) {
-                if (assertMethod.equals(methodFqn)) {
-                    return true;
-                }
-            }
-            if (additionalAsserts != null) {
-                for (String assertionClassOrPackage : additionalAsserts) {
-                    if (fqt.startsWith(assertionClassOrPackage)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
-        }
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.easymock;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.ChangeMethodName;
+import org.openrewrite.java.ChangeMethodTargetToStatic;
+import org.openrewrite.java.testing.internal.ApplicableSteps;
+import org.openrewrite.java.testing.internal.UsesIndex;
+
+/**
+ * Applies the {@link ChangeMethodName}, {@link ChangeMethodTargetToStatic} and other steps of the {@value #RULES}
+ * recipe in their listed order, with their own visitors, but only those that apply to a source file, as told by a
+ * shared {@link UsesIndex} lookup rather than each step scanning the methods and types in use.
+ */
+public class EasyMockTypesAndMethodsToMockitoSinglePass extends Recipe {
+
+    static final String RULES = "org.openrewrite.java.testing.easymock.EasyMockTypesAndMethodsToMockito";
+
+    private static volatile @Nullable ApplicableSteps steps;
+
+    @Override
+    public String getDisplayName() {
+        return "Migrate EasyMock types and methods to Mockito in a single pass";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Rename EasyMock methods and move them to their Mockito targets. " +
+               "Applies the same steps as `" + RULES + "`, skipping those that do not apply to a source file.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        // Also matches the names of EasyMock imports, so that files where EasyMock does not resolve are not skipped
+        return Preconditions.check(
+                UsesIndex.usesType("org.easymock..*", false),
+                getSteps().getVisitor());
+    }
+
+    static ApplicableSteps getSteps() {
+        ApplicableSteps s = steps;
+        if (s == null) {
+            synchronized (EasyMockTypesAndMethodsToMockitoSinglePass.class) {
+                s = steps;
+                if (s == null) {
+                    s = ApplicableSteps.load("/META-INF/rewrite/easymock.yml", RULES);
+                    steps = s;
+                }
+            }
+        }
+        return s;
+    }
+}
@@ -19,9 +19,9 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
@@ -50,7 +50,7 @@ public class AssertThatBooleanToAssertJ extends Recipe {
                     maybeRemoveImport("org.hamcrest.MatcherAssert.assertThat");
                     maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
                     return JavaTemplate.builder("assertThat(#{any(boolean)}).as(#{any(String)}).isTrue()")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                             .staticImports("org.assertj.core.api.Assertions.assertThat")
                             .build()
                             .apply(getCursor(), mi.getCoordinates().replace(), booleanArgument, reasonArgument);
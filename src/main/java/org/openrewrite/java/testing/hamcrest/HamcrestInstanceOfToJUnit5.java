@@ -20,10 +20,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
@@ -48,10 +48,10 @@ public class HamcrestInstanceOfToJUnit5 extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         TreeVisitor<?, ExecutionContext> preconditions = Preconditions.and(
-                new UsesMethod<>(ASSERT_THAT_MATCHER),
+                UsesIndex.usesMethod(ASSERT_THAT_MATCHER),
                 Preconditions.or(
-                        new UsesMethod<>(INSTANCE_OF_MATCHER),
-                        new UsesMethod<>(IS_A_MATCHER)));
+                        UsesIndex.usesMethod(INSTANCE_OF_MATCHER),
+                        UsesIndex.usesMethod(IS_A_MATCHER)));
         return Preconditions.check(preconditions, new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation mi, ExecutionContext ctx) {
@@ -88,7 +88,7 @@ public class HamcrestInstanceOfToJUnit5 extends Recipe {
                                 (reason == null ? ")" : ", #{any(java.lang.String)})");
 
                         JavaTemplate template = JavaTemplate.builder(templateString)
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                                 .staticImports("org.junit.jupiter.api.Assertions." + (logicalContext ? "assertInstanceOf" : "assertFalse"))
                                 .build();
 
@@ -20,10 +20,11 @@ import lombok.NoArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaTemplateCache;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -35,6 +36,8 @@ import static java.util.stream.Collectors.joining;
 @AllArgsConstructor
 public class HamcrestMatcherToAssertJ extends Recipe {
 
+    static final MethodMatcher ASSERT_THAT_MATCHER = new MethodMatcher("org.hamcrest.MatcherAssert assertThat(..)");
+
     @Option(displayName = "Hamcrest matcher",
             description = "The Hamcrest `Matcher` to migrate to JUnit5.",
             example = "equalTo",
@@ -68,58 +71,73 @@ public class HamcrestMatcherToAssertJ extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>("org.hamcrest.*Matchers " + matcher + "(..)"), new MigrateToAssertJVisitor());
+        return Preconditions.check(UsesIndex.usesMethod("org.hamcrest.*Matchers " + matcher + "(..)"), new MigrateToAssertJVisitor());
     }
 
     private class MigrateToAssertJVisitor extends JavaIsoVisitor<ExecutionContext> {
-        private final MethodMatcher assertThatMatcher = new MethodMatcher("org.hamcrest.MatcherAssert assertThat(..)");
-        private final MethodMatcher matchersMatcher = new MethodMatcher("org.hamcrest.*Matchers " + matcher + "(..)");
-        private final MethodMatcher subMatcher = new MethodMatcher("org.hamcrest.*Matchers *(org.hamcrest.Matcher)");
-
-        // AssertJ assertions that don't take any arguments - matcher arguments should be ignored
-        private final Set<String> noArgAssertions = new HashSet<>(Arrays.asList("isNotNull", "isNull"));
+        private final Rule rule = new Rule();
 
         @Override
         public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
             J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
-            if (assertThatMatcher.matches(mi)) {
-                return replace(mi, ctx);
+            if (ASSERT_THAT_MATCHER.matches(mi)) {
+                J.MethodInvocation replaced = rule.replace(this, mi, ctx);
+                return replaced == null ? mi : replaced;
             }
             return mi;
         }
+    }
+
+    Rule toRule() {
+        return new Rule();
+    }
+
+    /**
+     * The migration of one Hamcrest matcher, applied by whichever visitor finds a Hamcrest {@code assertThat(..)}.
+     */
+    class Rule {
+        private final MethodMatcher matchersMatcher = new MethodMatcher("org.hamcrest.*Matchers " + matcher + "(..)");
+        private final MethodMatcher subMatcher = new MethodMatcher("org.hamcrest.*Matchers *(org.hamcrest.Matcher)");
+
+        // AssertJ assertions that don't take any arguments - matcher arguments should be ignored
+        private final Set<String> noArgAssertions = new HashSet<>(Arrays.asList("isNotNull", "isNull"));
 
-        private J.MethodInvocation replace(J.MethodInvocation mi, ExecutionContext ctx) {
+        /**
+         * @return The AssertJ assertion replacing the Hamcrest assertion {@code mi},
+         * or {@code null} if this rule does not apply to it.
+         */
+        J.@Nullable MethodInvocation replace(JavaVisitor<ExecutionContext> visitor, J.MethodInvocation mi, ExecutionContext ctx) {
             List<Expression> mia = mi.getArguments();
             Expression reasonArgument = mia.size() == 3 ? mia.get(0) : null;
             Expression actualArgument = mia.get(mia.size() - 2);
             Expression matcherArgument = mia.get(mia.size() - 1);
             if (!matchersMatcher.matches(matcherArgument) || subMatcher.matches(matcherArgument)) {
-                return mi;
+                return null;
             }
             if (argumentType != null && !TypeUtils.isOfClassType(actualArgument.getType(), argumentType)) {
-                return mi;
+                return null;
             }
 
             String actual = typeToIndicator(actualArgument.getType());
             J.MethodInvocation matcherArgumentMethod = (J.MethodInvocation) matcherArgument;
             boolean isNoArgAssertion = noArgAssertions.contains(assertion);
             String argsTemplate = isNoArgAssertion ? "" : getArgumentsTemplate(matcherArgumentMethod);
-            JavaTemplate template = JavaTemplate.builder(String.format(
+            JavaTemplate template = JavaTemplateCache.builder(String.format(
                             "assertThat(%s)" +
                             (reasonArgument != null ? ".as(#{any(String)})" : "") +
                             ".%s(%s)",
                             actual, assertion, argsTemplate))
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                    .classpathFromResources("assertj-core-3")
                     .staticImports(
                             "org.assertj.core.api.Assertions.assertThat",
                             "org.assertj.core.api.Assertions.within")
-                    .build();
-            maybeRemoveImport("org.hamcrest.Matchers." + matcher);
-            maybeRemoveImport("org.hamcrest.CoreMatchers." + matcher);
-            maybeRemoveImport("org.hamcrest.MatcherAssert");
-            maybeRemoveImport("org.hamcrest.MatcherAssert.assertThat");
-            maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
-            maybeAddImport("org.assertj.core.api.Assertions", "within");
+                    .build(ctx);
+            visitor.maybeRemoveImport("org.hamcrest.Matchers." + matcher);
+            visitor.maybeRemoveImport("org.hamcrest.CoreMatchers." + matcher);
+            visitor.maybeRemoveImport("org.hamcrest.MatcherAssert");
+            visitor.maybeRemoveImport("org.hamcrest.MatcherAssert.assertThat");
+            visitor.maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
+            visitor.maybeAddImport("org.assertj.core.api.Assertions", "within");
 
             List<Expression> templateArguments = new ArrayList<>();
             templateArguments.add(actualArgument);
@@ -142,7 +160,7 @@ public class HamcrestMatcherToAssertJ extends Recipe {
                     }
                 }
             }
-            return template.apply(getCursor(), mi.getCoordinates().replace(), templateArguments.toArray());
+            return template.apply(visitor.getCursor(), mi.getCoordinates().replace(), templateArguments.toArray());
         }
 
         private final MethodMatcher CLOSE_TO_MATCHER = new MethodMatcher("org.hamcrest.Matchers closeTo(..)");
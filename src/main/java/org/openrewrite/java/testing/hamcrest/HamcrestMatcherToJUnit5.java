@@ -20,10 +20,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
@@ -50,7 +50,7 @@ public class HamcrestMatcherToJUnit5 extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesMethod<>(MATCHER_ASSERT_MATCHER),
+                UsesIndex.usesMethod(MATCHER_ASSERT_MATCHER),
                 new MigrationFromHamcrestVisitor());
     }
 
@@ -169,7 +169,7 @@ public class HamcrestMatcherToJUnit5 extends Recipe {
                     String assertion = logicalContext ? replacement.junitPositive : replacement.junitNegative;
                     String templateString = assertion + "(" + replacement.template + (reason == null ? ")" : ", #{any(java.lang.String)})");
                     JavaTemplate template = JavaTemplate.builder(templateString)
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                             .staticImports("org.junit.jupiter.api.Assertions." + assertion)
                             .build();
 
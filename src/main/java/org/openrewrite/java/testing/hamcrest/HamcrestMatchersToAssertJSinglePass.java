@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.hamcrest;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.testing.internal.DeclarativeRules;
+import org.openrewrite.java.testing.internal.UsesIndex;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Applies all {@link HamcrestMatcherToAssertJ} rules of the {@value #RULES} recipe in a single traversal.
+ * The rules are read once from that recipe's YAML definition, which remains the place to add or change them,
+ * and are looked up by the simple name of the matcher passed to each Hamcrest {@code assertThat(..)}.
+ */
+public class HamcrestMatchersToAssertJSinglePass extends Recipe {
+
+    static final String RULES = "org.openrewrite.java.testing.hamcrest.HamcrestMatchersToAssertJ";
+
+    private static volatile @Nullable Map<String, List<HamcrestMatcherToAssertJ.Rule>> rulesByMatcher;
+
+    @Override
+    public String getDisplayName() {
+        return "Migrate Hamcrest `Matcher`s to AssertJ in a single pass";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Migrate Hamcrest `assertThat(x, matcher(..))` to the dedicated AssertJ assertion of each supported matcher. " +
+               "Applies the same rules as `" + RULES + "`, in one traversal of each source file.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        Map<String, List<HamcrestMatcherToAssertJ.Rule>> rules = getRulesByMatcher();
+        return Preconditions.check(
+                UsesIndex.usesMethod(HamcrestMatcherToAssertJ.ASSERT_THAT_MATCHER),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                        if (mi.getArguments().size() < 2 || !HamcrestMatcherToAssertJ.ASSERT_THAT_MATCHER.matches(mi)) {
+                            return mi;
+                        }
+
+                        Expression matcherArgument = mi.getArguments().get(mi.getArguments().size() - 1);
+                        if (!(matcherArgument instanceof J.MethodInvocation)) {
+                            return mi;
+                        }
+
+                        String matcher = ((J.MethodInvocation) matcherArgument).getSimpleName();
+                        for (HamcrestMatcherToAssertJ.Rule rule : rules.getOrDefault(matcher, emptyList())) {
+                            J.MethodInvocation replaced = rule.replace(this, mi, ctx);
+                            if (replaced != null) {
+                                return replaced;
+                            }
+                        }
+                        return mi;
+                    }
+                });
+    }
+
+    static Map<String, List<HamcrestMatcherToAssertJ.Rule>> getRulesByMatcher() {
+        Map<String, List<HamcrestMatcherToAssertJ.Rule>> rules = rulesByMatcher;
+        if (rules == null) {
+            synchronized (HamcrestMatchersToAssertJSinglePass.class) {
+                rules = rulesByMatcher;
+                if (rules == null) {
+                    rules = new HashMap<>();
+                    for (HamcrestMatcherToAssertJ recipe : DeclarativeRules.load(
+                            HamcrestMatcherToAssertJ.class, "/META-INF/rewrite/hamcrest.yml", RULES)) {
+                        rules.computeIfAbsent(requireNonNull(recipe.matcher), k -> new ArrayList<>())
+                                .add(recipe.toRule());
+                    }
+                    rulesByMatcher = rules;
+                }
+            }
+        }
+        return rules;
+    }
+}
@@ -20,10 +20,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
@@ -51,8 +51,8 @@ public class HamcrestOfMatchersToAssertJ extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(Preconditions.or(
-                new UsesMethod<>(ANY_OF_MATCHER),
-                new UsesMethod<>(ALL_OF_MATCHER)
+                UsesIndex.usesMethod(ANY_OF_MATCHER),
+                UsesIndex.usesMethod(ALL_OF_MATCHER)
         ), new AnyOfToAssertJVisitor());
     }
 
@@ -102,8 +102,7 @@ public class HamcrestOfMatchersToAssertJ extends Recipe {
             return JavaTemplate.builder(template.toString())
                     .contextSensitive()
                     .staticImports("org.assertj.core.api.Assertions.assertThat")
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
-                            "assertj-core-3",
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3",
                             "hamcrest-3",
                             "junit-jupiter-api-5"))
                     .build()
@@ -17,9 +17,9 @@ package org.openrewrite.java.testing.hamcrest;
 
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
 import org.openrewrite.java.tree.J;
 
 import java.security.InvalidParameterException;
@@ -57,7 +57,7 @@ class RemoveNotMatcherVisitor extends JavaIsoVisitor<ExecutionContext> {
                 result = mi.getArguments().get(0).withPrefix(mi.getPrefix());
             } else {
                 JavaTemplate template = JavaTemplate.builder("equalTo(#{any(java.lang.Object)})")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "hamcrest-3"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "hamcrest-3"))
                         .staticImports("org.hamcrest.Matchers.equalTo")
                         .build();
                 maybeAddImport("org.hamcrest.Matchers", "equalTo");
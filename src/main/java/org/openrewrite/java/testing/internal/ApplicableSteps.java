@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.ChangeMethodName;
+import org.openrewrite.java.ChangeMethodTargetToStatic;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.ReorderMethodArguments;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the steps of a declarative recipe with their own visitors, in the order they are listed, skipping the steps
+ * that do not apply to a source file. Whether a {@link ChangeMethodName}, {@link ChangeMethodTargetToStatic},
+ * {@link ReorderMethodArguments} or {@link ChangeType} step applies is answered by {@link UsesIndex}, which looks up
+ * each method by name and is shared by all steps, instead of each step scanning all methods and types in use.
+ * <p>
+ * Each step is checked against the source file as changed by the steps before it, so a step that only applies to
+ * the methods or types introduced by an earlier step still runs, as it would in the declarative recipe.
+ */
+public final class ApplicableSteps {
+    private final List<Recipe> steps;
+
+    /**
+     * For each step, the {@link UsesIndex} precondition that tells whether it applies, or {@code null} when it is
+     * always run. Built once, as each builds a {@link org.openrewrite.java.MethodMatcher}.
+     */
+    private final List<@Nullable TreeVisitor<?, ExecutionContext>> preconditions = new ArrayList<>();
+
+    private ApplicableSteps(List<Recipe> steps) {
+        this.steps = steps;
+        for (Recipe step : steps) {
+            preconditions.add(precondition(step));
+        }
+    }
+
+    /**
+     * @param resource   The YAML resource defining the declarative recipe, i.e. {@code /META-INF/rewrite/truth.yml}.
+     * @param recipeName The name of the declarative recipe.
+     */
+    public static ApplicableSteps load(String resource, String recipeName) {
+        List<Recipe> steps = new ArrayList<>();
+        for (Recipe recipe : DeclarativeRules.load(Recipe.class, resource, recipeName)) {
+            if (recipe.getRecipeList().isEmpty()) {
+                steps.add(recipe);
+            }
+        }
+        return new ApplicableSteps(steps);
+    }
+
+    /**
+     * @return The steps of the declarative recipe, in the order they are listed.
+     */
+    public List<Recipe> getSteps() {
+        return steps;
+    }
+
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return sourceFile instanceof JavaSourceFile;
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                Tree t = tree;
+                for (int i = 0; i < steps.size() && t instanceof JavaSourceFile; i++) {
+                    Recipe step = steps.get(i);
+                    if (applies(step, preconditions.get(i), (JavaSourceFile) t, ctx)) {
+                        t = step.getVisitor().visit(t, ctx);
+                    }
+                }
+                return t;
+            }
+        };
+    }
+
+    private static @Nullable TreeVisitor<?, ExecutionContext> precondition(Recipe step) {
+        if (step instanceof ChangeMethodName) {
+            ChangeMethodName changeMethodName = (ChangeMethodName) step;
+            return UsesIndex.usesMethod(changeMethodName.getMethodPattern(),
+                    Boolean.TRUE.equals(changeMethodName.getMatchOverrides()));
+        } else if (step instanceof ChangeMethodTargetToStatic) {
+            ChangeMethodTargetToStatic changeTarget = (ChangeMethodTargetToStatic) step;
+            return UsesIndex.usesMethod(changeTarget.getMethodPattern(),
+                    Boolean.TRUE.equals(changeTarget.getMatchOverrides()));
+        } else if (step instanceof ReorderMethodArguments) {
+            ReorderMethodArguments reorder = (ReorderMethodArguments) step;
+            return UsesIndex.usesMethod(reorder.getMethodPattern(),
+                    Boolean.TRUE.equals(reorder.getMatchOverrides()));
+        } else if (step instanceof ChangeType) {
+            // ChangeType also updates the types of method invocations, so implicit uses count
+            return UsesIndex.usesType(((ChangeType) step).getOldFullyQualifiedTypeName(), true);
+        }
+        return null;
+    }
+
+    private static boolean applies(Recipe step, @Nullable TreeVisitor<?, ExecutionContext> precondition,
+                                   JavaSourceFile sourceFile, ExecutionContext ctx) {
+        if (precondition == null || precondition.visit(sourceFile, ctx) != sourceFile) {
+            return true;
+        }
+        // ChangeMethodName also renames method declarations, which are not among the methods a source file uses
+        return step instanceof ChangeMethodName &&
+               declaresMethodNamed(((ChangeMethodName) step).getMethodPattern(), sourceFile);
+    }
+
+    private static boolean declaresMethodNamed(String methodPattern, JavaSourceFile sourceFile) {
+        String name = MethodPatterns.methodName(methodPattern);
+        for (JavaType.Method method : sourceFile.getTypesInUse().getDeclaredMethods()) {
+            if (name == null || name.equals(method.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tells whether a method invocation is an assertion, given a list of packages, classes and methods, such as
+ * {@code org.assertj.core.api}, {@code org.junit.jupiter.api.Assertions} or {@code org.mockito.Mockito.verify}.
+ * <p>
+ * A method is an assertion when the fully qualified name of its declaring type starts with one of the entries, or when
+ * its declaring type and name joined by a {@code .} equals one of the entries. The entries are compiled into a trie of
+ * characters once per list, so that classifying a method is a single walk over the name of its declaring type and
+ * its name, without creating any strings.
+ */
+public final class AssertionClassifier {
+    private static final Map<List<String>, AssertionClassifier> CLASSIFIERS = new ConcurrentHashMap<>();
+
+    private final Node root = new Node();
+
+    private AssertionClassifier(List<String> assertions) {
+        for (String assertion : assertions) {
+            Node node = root;
+            for (int i = 0; i < assertion.length(); i++) {
+                node = node.add(assertion.charAt(i));
+            }
+            node.terminal = true;
+        }
+    }
+
+    public static AssertionClassifier of(List<String> assertions) {
+        return CLASSIFIERS.computeIfAbsent(new ArrayList<>(assertions), AssertionClassifier::new);
+    }
+
+    public static AssertionClassifier of(List<String> assertions, List<String> additionalAssertions) {
+        if (additionalAssertions.isEmpty()) {
+            return of(assertions);
+        }
+        List<String> all = new ArrayList<>(assertions);
+        all.addAll(additionalAssertions);
+        return of(all);
+    }
+
+    public boolean isAssertion(JavaType.@Nullable Method method) {
+        return method != null && isAssertion(method.getDeclaringType().getFullyQualifiedName(), method.getName());
+    }
+
+    public boolean isAssertion(String declaringType, String methodName) {
+        Node node = root;
+        if (node.terminal) {
+            return true;
+        }
+        for (int i = 0; i < declaringType.length(); i++) {
+            node = node.child(declaringType.charAt(i));
+            if (node == null) {
+                return false;
+            } else if (node.terminal) {
+                return true;
+            }
+        }
+        node = node.child('.');
+        for (int i = 0; node != null && i < methodName.length(); i++) {
+            node = node.child(methodName.charAt(i));
+        }
+        return node != null && node.terminal;
+    }
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+
+        @Nullable Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node add(char key) {
+            Node child = child(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                keys[keys.length - 1] = key;
+                children = Arrays.copyOf(children, children.length + 1);
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
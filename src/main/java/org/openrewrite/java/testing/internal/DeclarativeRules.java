@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import org.openrewrite.Recipe;
+import org.openrewrite.config.Environment;
+import org.openrewrite.config.YamlResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads the configured recipes of a declarative recipe, for recipes that apply many configurations of
+ * another recipe at once while keeping the YAML definition as the single place those configurations are listed.
+ */
+public final class DeclarativeRules {
+
+    private DeclarativeRules() {
+    }
+
+    /**
+     * @param ruleType   The recipe class configured by the declarative recipe.
+     * @param resource   The YAML resource defining the declarative recipe, i.e. {@code /META-INF/rewrite/assertj.yml}.
+     * @param recipeName The name of the declarative recipe.
+     * @return The recipes of type {@code ruleType} in the declarative recipe, in the order they are listed.
+     */
+    public static <R extends Recipe> List<R> load(Class<R> ruleType, String resource, String recipeName) {
+        URL yaml = requireNonNull(DeclarativeRules.class.getResource(resource), resource);
+        try (InputStream in = yaml.openStream()) {
+            Recipe recipe = Environment.builder()
+                    .load(new YamlResourceLoader(in, yaml.toURI(), new Properties()))
+                    .build()
+                    .activateRecipes(recipeName);
+            List<R> rules = new ArrayList<>();
+            collect(ruleType, recipe, rules);
+            return rules;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <R extends Recipe> void collect(Class<R> ruleType, Recipe recipe, List<R> rules) {
+        if (ruleType.isInstance(recipe)) {
+            rules.add(ruleType.cast(recipe));
+        }
+        for (Recipe child : recipe.getRecipeList()) {
+            collect(ruleType, child, rules);
+        }
+    }
+}
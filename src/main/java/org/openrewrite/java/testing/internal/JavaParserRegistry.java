@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out {@link JavaParser.Builder}s for named sets of classpath resources, as used by the templates of the
+ * recipes in this module. The jars of each distinct set of classpath resources are resolved only once per JVM,
+ * rather than once for every template that is built. Whether the resolved jars still exist is checked once per
+ * execution context, not on every parser build.
+ */
+public final class JavaParserRegistry {
+    private static final String CHECKED = JavaParserRegistry.class.getName() + ".CHECKED";
+
+    static final Map<Collection<String>, List<Path>> CLASSPATH_BY_ARTIFACTS = new ConcurrentHashMap<>();
+
+    private JavaParserRegistry() {
+    }
+
+    /**
+     * @param ctx           The execution context used to resolve the classpath the first time it is requested.
+     * @param artifactNames The classpath resources, as in
+     *                      {@link JavaParser.Builder#classpathFromResources(ExecutionContext, String...)}.
+     * @return A new parser builder configured with the classpath of the given resources.
+     */
+    public static JavaParser.Builder<?, ?> fromResources(ExecutionContext ctx, String... artifactNames) {
+        // Builders may add classpath entries of their own, so never share the cached list
+        return JavaParser.fromJavaVersion().classpath(new ArrayList<>(classpath(ctx, artifactNames)));
+    }
+
+    /**
+     * @return The jars of the given classpath resources, resolved again if any of the jars resolved before is gone
+     * the first time they are requested with the given execution context.
+     */
+    static List<Path> classpath(ExecutionContext ctx, String... artifactNames) {
+        Collection<String> key = key(artifactNames);
+        List<Path> classpath = CLASSPATH_BY_ARTIFACTS.get(key);
+        Set<Collection<String>> checked = ctx.computeMessageIfAbsent(CHECKED, k -> ConcurrentHashMap.newKeySet());
+        if (classpath == null || (checked.add(key) && !classpath.stream().allMatch(Files::exists))) {
+            classpath = JavaParser.dependenciesFromResources(ctx, artifactNames);
+            CLASSPATH_BY_ARTIFACTS.put(key, classpath);
+        }
+        return classpath;
+    }
+
+    /**
+     * The key under which the classpath of the given resources is cached.
+     */
+    static Collection<String> key(String... artifactNames) {
+        return Arrays.asList(artifactNames);
+    }
+}
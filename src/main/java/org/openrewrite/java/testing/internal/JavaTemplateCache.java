@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import lombok.Value;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * A process wide, bounded cache of {@link JavaTemplate}s. Recipes that build a template for every match
+ * use this instead of {@link JavaTemplate#builder(String)}, so that each distinct combination of template code,
+ * imports, static imports, classpath and context sensitivity is built once per JVM instead of once per match.
+ * <p>
+ * The classpath resources are resolved through {@link JavaParserRegistry} on every request, and the resolved jars
+ * are part of what identifies a template. When those jars are deleted, as happens to temporary directories in a
+ * long-lived process, they are resolved again and a template is built against the new jars rather than reusing
+ * one whose parser refers to the old ones.
+ */
+public final class JavaTemplateCache {
+    private static final int MAXIMUM_SIZE = 1_000;
+
+    private static final Map<Key, JavaTemplate> TEMPLATES = Collections.synchronizedMap(
+            new LinkedHashMap<Key, JavaTemplate>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, JavaTemplate> eldest) {
+                    return size() > MAXIMUM_SIZE;
+                }
+            });
+
+    private JavaTemplateCache() {
+    }
+
+    public static Builder builder(String code) {
+        return new Builder(code);
+    }
+
+    public static class Builder {
+        private final String code;
+        private List<String> imports = emptyList();
+        private List<String> staticImports = emptyList();
+        private List<String> classpath = emptyList();
+        private boolean contextSensitive;
+
+        private Builder(String code) {
+            this.code = code;
+        }
+
+        public Builder imports(String... fullyQualifiedTypeNames) {
+            this.imports = Arrays.asList(fullyQualifiedTypeNames);
+            return this;
+        }
+
+        public Builder staticImports(String... fullyQualifiedMemberTypeNames) {
+            this.staticImports = Arrays.asList(fullyQualifiedMemberTypeNames);
+            return this;
+        }
+
+        /**
+         * @param artifactNames The classpath resources to parse the template against, as in
+         *                      {@link JavaParser.Builder#classpathFromResources(ExecutionContext, String...)}.
+         */
+        public Builder classpathFromResources(String... artifactNames) {
+            this.classpath = Arrays.asList(artifactNames);
+            return this;
+        }
+
+        public Builder contextSensitive() {
+            this.contextSensitive = true;
+            return this;
+        }
+
+        public JavaTemplate build(ExecutionContext ctx) {
+            List<Path> resolved = classpath.isEmpty() ?
+                    emptyList() :
+                    JavaParserRegistry.classpath(ctx, classpath.toArray(new String[0]));
+            return TEMPLATES.computeIfAbsent(
+                    new Key(code, imports, staticImports, resolved, contextSensitive),
+                    Key::toTemplate);
+        }
+    }
+
+    @Value
+    private static class Key {
+        String code;
+        List<String> imports;
+        List<String> staticImports;
+        List<Path> classpath;
+        boolean contextSensitive;
+
+        JavaTemplate toTemplate() {
+            JavaTemplate.Builder builder = JavaTemplate.builder(code)
+                    .imports(imports.toArray(new String[0]))
+                    .staticImports(staticImports.toArray(new String[0]));
+            if (!classpath.isEmpty()) {
+                builder.javaParser(JavaParser.fromJavaVersion().classpath(new ArrayList<>(classpath)));
+            }
+            if (contextSensitive) {
+                builder.contextSensitive();
+            }
+            return builder.build();
+        }
+    }
+}
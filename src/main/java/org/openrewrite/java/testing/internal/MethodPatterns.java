@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.MethodMatcher;
+
+/**
+ * Reads the parts of {@link MethodMatcher} patterns that recipes in this module index their rules by.
+ */
+public final class MethodPatterns {
+
+    private MethodPatterns() {
+    }
+
+    /**
+     * @param methodPattern A method pattern in either the {@code Type method(..)} or the {@code Type#method(..)} form.
+     * @return The name of the method the pattern matches, or {@code null} when the name contains a wildcard or the
+     * pattern has no argument list, so that the pattern may match methods of any name.
+     */
+    public static @Nullable String methodName(String methodPattern) {
+        int arguments = methodPattern.indexOf('(');
+        if (arguments < 0) {
+            return null;
+        }
+        String typeAndName = methodPattern.substring(0, arguments).trim();
+        int separator = Math.max(typeAndName.lastIndexOf('#'), typeAndName.lastIndexOf(' '));
+        if (separator < 0) {
+            return null;
+        }
+        String name = typeAndName.substring(separator + 1);
+        return name.isEmpty() || name.contains("*") ? null : name;
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * The types and methods a source file uses, computed once per source file and shared by the preconditions of all
+ * recipes that are run on it, instead of each {@link UsesType} and {@link UsesMethod} rescanning the types in use.
+ * <p>
+ * Types are indexed by fully qualified name, including those of their supertypes, as {@link UsesType} also matches
+ * subtypes of the type it looks for. The type names of imports are indexed as written, so that files whose imports
+ * do not resolve against the classpath still match. Methods are indexed by name, so that a method pattern with a literal method name
+ * is only matched against the methods with that name. The answer to each distinct precondition is kept as well.
+ * <p>
+ * The index is kept in the {@link ExecutionContext} for the last source file it was requested for, and is recomputed
+ * when a recipe returns a changed source file.
+ */
+public final class UsesIndex {
+    private static final String INDEX = UsesIndex.class.getName();
+    private static final Map<String, Pattern> TYPE_PATTERNS = new ConcurrentHashMap<>();
+
+    private final JavaSourceFile sourceFile;
+    private final Set<String> explicitTypes = new HashSet<>();
+    private final Set<String> implicitTypes = new HashSet<>();
+    private final Map<String, List<JavaType.Method>> methodsByName = new HashMap<>();
+    // Recipes running concurrently with the same execution context may share this index
+    private final Map<Object, Boolean> answers = new ConcurrentHashMap<>();
+
+    private UsesIndex(JavaSourceFile sourceFile) {
+        this.sourceFile = sourceFile;
+        TypesInUse typesInUse = sourceFile.getTypesInUse();
+        for (JavaType.Method method : typesInUse.getUsedMethods()) {
+            methodsByName.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+            if (method.hasFlags(Flag.Static)) {
+                addType(explicitTypes, method.getDeclaringType());
+            }
+            addType(implicitTypes, method.getDeclaringType());
+            addType(implicitTypes, method.getReturnType());
+            for (JavaType parameterType : method.getParameterTypes()) {
+                addType(implicitTypes, parameterType);
+            }
+        }
+        for (JavaType type : typesInUse.getTypesInUse()) {
+            addType(explicitTypes, type);
+        }
+        for (JavaType.Variable variable : typesInUse.getVariables()) {
+            addType(implicitTypes, variable.getType());
+        }
+        for (J.Import anImport : sourceFile.getImports()) {
+            J.FieldAccess qualid = anImport.getQualid();
+            addType(explicitTypes, anImport.isStatic() ? qualid.getTarget().getType() : qualid.getType());
+            // Like UsesType, also match the imported name, which is all there is when the import does not resolve
+            explicitTypes.add(anImport.getTypeName());
+        }
+        implicitTypes.addAll(explicitTypes);
+    }
+
+    /**
+     * The equivalent of {@link UsesType#UsesType(String, Boolean)}.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesType(String fullyQualifiedType, @Nullable Boolean includeImplicit) {
+        boolean implicit = Boolean.TRUE.equals(includeImplicit);
+        List<Object> key = Arrays.asList(UsesType.class, fullyQualifiedType, implicit);
+        return check(index -> index.answer(key, () -> index.usesType(fullyQualifiedType, implicit)));
+    }
+
+    /**
+     * The equivalent of {@link UsesMethod#UsesMethod(String)}.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesMethod(String methodPattern) {
+        return usesMethod(methodPattern, false);
+    }
+
+    /**
+     * The equivalent of {@link UsesMethod#UsesMethod(String, boolean)}.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesMethod(String methodPattern, boolean matchOverrides) {
+        MethodMatcher matcher = new MethodMatcher(methodPattern, matchOverrides);
+        String methodName = MethodPatterns.methodName(methodPattern);
+        List<Object> key = Arrays.asList(UsesMethod.class, methodPattern, matchOverrides);
+        if (methodName == null) {
+            return check(index -> index.answer(key, () -> index.usesMethod(matcher, null)));
+        }
+        return check(index -> index.answer(key, () -> index.usesMethod(matcher, methodName)));
+    }
+
+    /**
+     * The equivalent of {@link UsesMethod#UsesMethod(MethodMatcher)}.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesMethod(MethodMatcher matcher) {
+        return check(index -> index.answer(matcher, () -> index.usesMethod(matcher, null)));
+    }
+
+    /**
+     * The equivalent of {@code Preconditions.or} of a {@link UsesMethod} for each matcher,
+     * but checking each method in use once against all matchers.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesAnyMethod(MethodMatcher... matchers) {
+        List<MethodMatcher> key = Arrays.asList(matchers);
+        return check(index -> index.answer(key, () -> {
+            for (List<JavaType.Method> methods : index.methodsByName.values()) {
+                for (JavaType.Method method : methods) {
+                    for (MethodMatcher matcher : matchers) {
+                        if (matcher.matches(method)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+
+    private static TreeVisitor<?, ExecutionContext> check(Predicate<UsesIndex> uses) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof JavaSourceFile && uses.test(of((JavaSourceFile) tree, ctx))) {
+                    return SearchResult.found(tree);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static UsesIndex of(JavaSourceFile sourceFile, ExecutionContext ctx) {
+        UsesIndex index = ctx.getMessage(INDEX);
+        // Compared by identity, as a changed source file keeps its id
+        if (index == null || index.sourceFile != sourceFile) {
+            index = new UsesIndex(sourceFile);
+            ctx.putMessage(INDEX, index);
+        }
+        return index;
+    }
+
+    private boolean answer(Object key, BooleanSupplier compute) {
+        Boolean answer = answers.get(key);
+        if (answer == null) {
+            answer = compute.getAsBoolean();
+            answers.put(key, answer);
+        }
+        return answer;
+    }
+
+    private boolean usesType(String fullyQualifiedType, boolean includeImplicit) {
+        Set<String> types = includeImplicit ? implicitTypes : explicitTypes;
+        if (!fullyQualifiedType.contains("*")) {
+            return types.contains(fullyQualifiedType);
+        }
+        Pattern pattern = TYPE_PATTERNS.computeIfAbsent(fullyQualifiedType,
+                t -> Pattern.compile(StringUtils.aspectjNameToPattern(t)));
+        for (String type : types) {
+            if (pattern.matcher(type).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean usesMethod(MethodMatcher matcher, @Nullable String methodName) {
+        Collection<List<JavaType.Method>> candidates = methodName == null ?
+                methodsByName.values() :
+                Collections.singleton(methodsByName.getOrDefault(methodName, emptyList()));
+        for (List<JavaType.Method> methods : candidates) {
+            for (JavaType.Method method : methods) {
+                if (matcher.matches(method)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void addType(Set<String> types, @Nullable JavaType type) {
+        if (type instanceof JavaType.Primitive) {
+            types.add(((JavaType.Primitive) type).getKeyword());
+        } else if (type instanceof JavaType.GenericTypeVariable) {
+            for (JavaType bound : ((JavaType.GenericTypeVariable) type).getBounds()) {
+                addType(types, bound);
+            }
+        } else {
+            addSupertypes(types, TypeUtils.asFullyQualified(type));
+        }
+    }
+
+    private static void addSupertypes(Set<String> types, JavaType.@Nullable FullyQualified type) {
+        if (type == null || type instanceof JavaType.Unknown || !types.add(type.getFullyQualifiedName())) {
+            return;
+        }
+        addSupertypes(types, type.getSupertype());
+        for (JavaType.FullyQualified anInterface : type.getInterfaces()) {
+            addSupertypes(types, anInterface);
+        }
+    }
+}
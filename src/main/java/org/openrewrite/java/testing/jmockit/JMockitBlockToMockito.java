@@ -22,7 +22,7 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Statement;
 
@@ -51,8 +51,8 @@ public class JMockitBlockToMockito extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        @SuppressWarnings("rawtypes")
-        UsesType[] usesTypes = Arrays.stream(values()).map(blockType -> new UsesType<>(blockType.getFqn(), false)).toArray(UsesType[]::new);
+        @SuppressWarnings("unchecked")
+        TreeVisitor<?, ExecutionContext>[] usesTypes = Arrays.stream(values()).map(blockType -> UsesIndex.usesType(blockType.getFqn(), false)).toArray(TreeVisitor[]::new);
         return Preconditions.check(Preconditions.or(usesTypes), new RewriteJMockitBlockVisitor());
     }
 
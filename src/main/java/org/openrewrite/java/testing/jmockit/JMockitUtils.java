@@ -17,6 +17,7 @@ package org.openrewrite.java.testing.jmockit;
 
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.Statement;
@@ -32,7 +33,7 @@ class JMockitUtils {
     static final String MOCKITO_ALL_IMPORT = "org.mockito.Mockito.*";
 
     public static JavaParser.Builder<?, ?> getJavaParser(ExecutionContext ctx) {
-        return JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core-3.12");
+        return JavaParserRegistry.fromResources(ctx, "mockito-core-3.12");
     }
 
     static Optional<JMockitBlockType> getJMockitBlock(Statement s) {
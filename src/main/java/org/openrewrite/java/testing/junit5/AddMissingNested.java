@@ -22,10 +22,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.search.FindAnnotations;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
 
@@ -50,7 +50,7 @@ public class AddMissingNested extends Recipe {
 
     @SuppressWarnings("unchecked")
     private static final TreeVisitor<?, ExecutionContext> PRECONDITION =
-            Preconditions.or(TEST_ANNOTATIONS.stream().map(r -> new UsesType<>(r, false)).toArray(UsesType[]::new));
+            Preconditions.or(TEST_ANNOTATIONS.stream().map(r -> UsesIndex.usesType(r, false)).toArray(TreeVisitor[]::new));
 
     @Override
     public String getDisplayName() {
@@ -97,8 +97,7 @@ public class AddMissingNested extends Recipe {
                 return cd;
             }
             cd = JavaTemplate.builder("@Nested")
-                    .javaParser(JavaParser.fromJavaVersion()
-                            .classpathFromResources(ctx, "junit-jupiter-api-5"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                     .imports(NESTED)
                     .build()
                     .apply(getCursor(), cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
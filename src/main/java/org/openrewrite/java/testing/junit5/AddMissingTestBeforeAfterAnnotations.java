@@ -23,8 +23,8 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType.FullyQualified;
 import org.openrewrite.java.tree.JavaType.Method;
@@ -83,7 +83,7 @@ public class AddMissingTestBeforeAfterAnnotations extends Recipe {
             if (la.needsAnnotation(method, superMethod)) {
                 maybeAddImport(la.newAnnotation);
                 return JavaTemplate.builder(la.newAnnotationSimple)
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                         .imports(la.newAnnotation)
                         .build()
                         .apply(getCursor(), method.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
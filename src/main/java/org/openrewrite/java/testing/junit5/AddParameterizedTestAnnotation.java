@@ -20,7 +20,8 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaCoordinates;
 
@@ -58,7 +59,7 @@ public class AddParameterizedTestAnnotation extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.junit.jupiter.params.provider.*", false), new AnnotatedMethodVisitor());
+        return Preconditions.check(UsesIndex.usesType("org.junit.jupiter.params.provider.*", false), new AnnotatedMethodVisitor());
     }
 
     private static class AnnotatedMethodVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -75,7 +76,7 @@ public class AddParameterizedTestAnnotation extends Recipe {
             // Add parameterized test annotation at the start
             JavaCoordinates coordinates = m.getCoordinates().addAnnotation((o1, o2) -> -1);
             m = JavaTemplate.builder("@ParameterizedTest")
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-params-5"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-params-5"))
                     .imports("org.junit.jupiter.params.ParameterizedTest")
                     .build()
                     .apply(getCursor(), coordinates);
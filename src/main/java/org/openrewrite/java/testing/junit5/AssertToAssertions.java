@@ -23,7 +23,7 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.ChangeMethodTargetToStatic;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 
 import java.util.ArrayList;
@@ -45,7 +45,7 @@ public class AssertToAssertions extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.junit.Assert", false), new AssertToAssertionsVisitor());
+        return Preconditions.check(UsesIndex.usesType("org.junit.Assert", false), new AssertToAssertionsVisitor());
     }
 
     public static class AssertToAssertionsVisitor extends JavaIsoVisitor<ExecutionContext> {
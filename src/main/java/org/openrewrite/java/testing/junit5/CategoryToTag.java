@@ -21,7 +21,7 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.search.FindAnnotations;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -47,7 +47,7 @@ public class CategoryToTag extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.junit.experimental.categories.Category", false), new CategoryToTagVisitor());
+        return Preconditions.check(UsesIndex.usesType("org.junit.experimental.categories.Category", false), new CategoryToTagVisitor());
     }
 
     public static class CategoryToTagVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -23,9 +23,9 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.trait.Annotated;
 import org.openrewrite.java.trait.Literal;
 import org.openrewrite.java.tree.Expression;
@@ -55,7 +55,7 @@ public class CsvSourceToValueSource extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesType<>("org.junit.jupiter.params.provider.CsvSource", false),
+                UsesIndex.usesType("org.junit.jupiter.params.provider.CsvSource", false),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
@@ -95,7 +95,7 @@ public class CsvSourceToValueSource extends Recipe {
                                             ((J.Assignment) annotation.getArguments().get(0)).getAssignment() :
                                             annotation.getArguments().get(0);
                                     J.MethodDeclaration updated = JavaTemplate.builder("@ValueSource(strings = {})")
-                                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-params-5"))
+                                            .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-params-5"))
                                             .imports("org.junit.jupiter.params.provider.ValueSource")
                                             .build()
                                             .apply(getCursor(), annotation.getCoordinates().replace());
@@ -127,7 +127,7 @@ public class CsvSourceToValueSource extends Recipe {
                                 maybeRemoveImport("org.junit.jupiter.params.provider.CsvSource");
                                 maybeAddImport("org.junit.jupiter.params.provider.ValueSource");
                                 return JavaTemplate.builder(valueSourceAnnotationTemplate)
-                                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-params-5"))
+                                        .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-params-5"))
                                         .imports("org.junit.jupiter.params.provider.ValueSource")
                                         .build()
                                         .apply(getCursor(), annotation.getCoordinates().replace());
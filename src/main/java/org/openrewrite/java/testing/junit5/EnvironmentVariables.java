@@ -21,6 +21,7 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.*;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
 import org.openrewrite.java.trait.Annotated;
 import org.openrewrite.java.tree.*;
 
@@ -152,14 +153,14 @@ public class EnvironmentVariables extends Recipe {
             return JavaTemplate.builder("@ExtendWith(SystemStubsExtension.class)")
                     .imports(EXTEND_WITH, SYSTEM_STUBS_EXTENSION)
                     .javaParser(
-                            JavaParser.fromJavaVersion().classpathFromResources(ctx, "system-stubs-jupiter", "junit-jupiter-api"))
+                            JavaParserRegistry.fromResources(ctx, "system-stubs-jupiter", "junit-jupiter-api"))
                     .build();
         }
 
         private static JavaTemplate systemStubsTemplate(ExecutionContext ctx) {
             return JavaTemplate.builder("@SystemStub")
                     .imports(SYSTEM_STUB)
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "system-stubs-jupiter"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "system-stubs-jupiter"))
                     .build();
         }
 
@@ -169,7 +170,7 @@ public class EnvironmentVariables extends Recipe {
                 template.append(".remove(#{any(java.lang.String)})");
             }
             return JavaTemplate.builder(template.toString())
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "system-stubs-jupiter", "system-stubs-core"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "system-stubs-jupiter", "system-stubs-core"))
                     .build();
         }
 
@@ -20,7 +20,8 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.trait.Annotated;
 import org.openrewrite.java.trait.Literal;
 import org.openrewrite.java.tree.*;
@@ -74,7 +75,7 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("junitparams.*", false), new ParameterizedTemplateVisitor());
+        return Preconditions.check(UsesIndex.usesType("junitparams.*", false), new ParameterizedTemplateVisitor());
     }
 
     private static class ParameterizedTemplateVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -188,7 +189,7 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
         private static JavaTemplate getCsVParamTemplate(ExecutionContext ctx) {
             return JavaTemplate.builder("@CsvSource(#{any(java.lang.String[])})")
                     .imports("org.junit.jupiter.params.provider.CsvSource")
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-params"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-params"))
                     .build();
         }
     }
@@ -219,8 +220,7 @@ public class JUnitParamsRunnerToParameterized extends Recipe {
             this.parameterizedTests = parameterizedTests;
 
             // build @ParameterizedTest template
-            JavaParser.Builder<?, ?> javaParser = JavaParser.fromJavaVersion()
-                    .classpathFromResources(ctx, "junit-jupiter-api-5", "hamcrest-3", "junit-jupiter-params-5");
+            JavaParser.Builder<?, ?> javaParser = JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5", "hamcrest-3", "junit-jupiter-params-5");
             this.parameterizedTestTemplate = JavaTemplate.builder("@ParameterizedTest")
                     .javaParser(javaParser)
                     .imports("org.junit.jupiter.params.ParameterizedTest").build();
@@ -23,7 +23,8 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.FindAnnotations;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TextComment;
@@ -64,8 +65,8 @@ public class MigrateJUnitTestCase extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(Preconditions.or(
-                        new UsesType<>("junit.framework.TestCase", false),
-                        new UsesType<>("junit.framework.Assert", false)
+                        UsesIndex.usesType("junit.framework.TestCase", false),
+                        UsesIndex.usesType("junit.framework.Assert", false)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
@@ -150,8 +151,7 @@ public class MigrateJUnitTestCase extends Recipe {
             J.MethodDeclaration md = methodDeclaration;
             if (FindAnnotations.find(methodDeclaration.withBody(null), "@" + fullyQualifiedAnnotation).isEmpty()) {
                 md = JavaTemplate.builder(annotation)
-                        .javaParser(JavaParser.fromJavaVersion()
-                                .classpathFromResources(ctx, "junit-jupiter-api-5"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                         .imports(fullyQualifiedAnnotation).build()
                         .apply(getCursor(), methodDeclaration.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
                 md = maybeAddPublicModifier(md);
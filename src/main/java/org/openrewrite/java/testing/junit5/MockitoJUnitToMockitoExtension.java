@@ -20,12 +20,12 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.format.AutoFormatVisitor;
 import org.openrewrite.java.search.FindAnnotations;
 import org.openrewrite.java.search.FindFieldsOfType;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Statement;
 import org.openrewrite.java.tree.TypeUtils;
@@ -66,8 +66,8 @@ public class MockitoJUnitToMockitoExtension extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(Preconditions.or(
-                        new UsesType<>("org.mockito.junit.MockitoTestRule", false),
-                        new UsesType<>("org.mockito.junit.MockitoRule", false)
+                        UsesIndex.usesType("org.mockito.junit.MockitoTestRule", false),
+                        UsesIndex.usesType("org.mockito.junit.MockitoRule", false)
                 ),
                 new MockitoRuleToMockitoExtensionVisitor());
     }
@@ -105,8 +105,7 @@ public class MockitoJUnitToMockitoExtension extends Recipe {
                     String strictness = getCursor().pollMessage(STRICTNESS_KEY);
 
                     cd = JavaTemplate.builder("@ExtendWith(MockitoExtension.class)")
-                            .javaParser(JavaParser.fromJavaVersion()
-                                    .classpathFromResources(ctx, "junit-jupiter-api-5", "mockito-junit-jupiter-3.12"))
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5", "mockito-junit-jupiter-3.12"))
                             .imports("org.junit.jupiter.api.extension.ExtendWith", "org.mockito.junit.jupiter.MockitoExtension")
                             .build()
                             .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
@@ -121,8 +120,7 @@ public class MockitoJUnitToMockitoExtension extends Recipe {
                     }
                     if (!strictness.contains("STRICT_STUBS")) {
                         cd = JavaTemplate.builder("@MockitoSettings(strictness = " + strictness + ")")
-                                .javaParser(JavaParser.fromJavaVersion()
-                                        .classpathFromResources(ctx, "junit-jupiter-api-5", "mockito-junit-jupiter-3.12", "mockito-core-3.12"))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5", "mockito-junit-jupiter-3.12", "mockito-core-3.12"))
                                 .imports("org.mockito.junit.jupiter.MockitoSettings", "org.mockito.quality.Strictness")
                                 .build()
                                 .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
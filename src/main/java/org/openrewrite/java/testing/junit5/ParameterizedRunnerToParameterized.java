@@ -19,8 +19,9 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.service.AnnotationService;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -57,7 +58,7 @@ public class ParameterizedRunnerToParameterized extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.junit.runners.Parameterized", false), new ParameterizedRunnerVisitor());
+        return Preconditions.check(UsesIndex.usesType("org.junit.runners.Parameterized", false), new ParameterizedRunnerVisitor());
     }
 
     private static class ParameterizedRunnerVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -189,8 +190,7 @@ public class ParameterizedRunnerToParameterized extends Recipe {
                     "@ParameterizedTest(#{any()})" :
                     "@ParameterizedTest";
 
-            JavaParser.Builder<?, ?> javaParserBuilder = JavaParser.fromJavaVersion()
-                    .classpathFromResources(ctx, "junit-jupiter-api-5", "junit-jupiter-params-5");
+            JavaParser.Builder<?, ?> javaParserBuilder = JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5", "junit-jupiter-params-5");
 
             this.parameterizedTestTemplate = JavaTemplate.builder(parameterizedTestAnnotationTemplate)
                     .javaParser(javaParserBuilder)
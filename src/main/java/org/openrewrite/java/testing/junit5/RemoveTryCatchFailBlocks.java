@@ -20,7 +20,8 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 
 import java.util.Objects;
@@ -54,7 +55,7 @@ public class RemoveTryCatchFailBlocks extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>("org.junit.jupiter.api.Assertions fail(..)", false), new RemoveTryCatchBlocksFromUnitsTestsVisitor());
+        return Preconditions.check(UsesIndex.usesMethod("org.junit.jupiter.api.Assertions fail(..)", false), new RemoveTryCatchBlocksFromUnitsTestsVisitor());
     }
 
     private static class RemoveTryCatchBlocksFromUnitsTestsVisitor extends JavaVisitor<ExecutionContext> {
@@ -137,7 +138,7 @@ public class RemoveTryCatchFailBlocks extends Recipe {
             return JavaTemplate.builder("Assertions.assertDoesNotThrow(() -> #{any()})")
                     .contextSensitive()
                     .imports("org.junit.jupiter.api.Assertions")
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                     .build()
                     .apply(getCursor(), try_.getCoordinates().replace(), try_.getBody());
         }
@@ -160,7 +161,7 @@ public class RemoveTryCatchFailBlocks extends Recipe {
             maybeRemoveCatchTypes(try_);
             return JavaTemplate.builder("Assertions.assertDoesNotThrow(() -> #{any()}, #{any(String)})")
                     .imports("org.junit.jupiter.api.Assertions")
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                     .build()
                     .apply(getCursor(), try_.getCoordinates().replace(), try_.getBody(), failCallArgument);
         }
@@ -22,10 +22,10 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.search.FindAnnotations;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 
@@ -66,7 +66,7 @@ public class RunnerToExtension extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         @SuppressWarnings("unchecked") TreeVisitor<?, ExecutionContext> precondition =
-                Preconditions.or(runners.stream().map(r -> new UsesType<>(r, false)).toArray(UsesType[]::new));
+                Preconditions.or(runners.stream().map(r -> UsesIndex.usesType(r, false)).toArray(TreeVisitor[]::new));
         return Preconditions.check(precondition, new JavaIsoVisitor<ExecutionContext>() {
             private final JavaType.Class extensionType = JavaType.ShallowClass.build(extension);
 
@@ -76,8 +76,7 @@ public class RunnerToExtension extends Recipe {
             private JavaTemplate getExtendsWithTemplate(ExecutionContext ctx) {
                 if (extendsWithTemplate == null) {
                     extendsWithTemplate = JavaTemplate.builder("@ExtendWith(#{}.class)")
-                            .javaParser(JavaParser.fromJavaVersion()
-                                    .classpathFromResources(ctx, "junit-jupiter-api-5")
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5")
                                     .dependsOn("package " + extensionType.getPackageName() + ";\n" +
                                                "import org.junit.jupiter.api.extension.Extension;\n" +
                                                "public class " + extensionType.getClassName() + " implements Extension {}"))
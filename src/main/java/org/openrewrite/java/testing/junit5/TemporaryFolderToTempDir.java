@@ -22,7 +22,8 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.trait.Annotated;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
@@ -51,7 +52,7 @@ public class TemporaryFolderToTempDir extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesType<>("org.junit.rules.TemporaryFolder", false),
+                UsesIndex.usesType("org.junit.rules.TemporaryFolder", false),
                 new TemporaryFolderToTempDirVisitor());
     }
 }
@@ -92,7 +93,7 @@ class TemporaryFolderToTempDirVisitor extends JavaVisitor<ExecutionContext> {
         return (J.VariableDeclarations) new Annotated.Matcher("@org.junit.*Rule")
                 .asVisitor(a -> JavaTemplate.builder("@TempDir")
                         .imports(TEMP_DIR)
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                         .build()
                         .apply(a.getCursor(), a.getTree().getCoordinates().replace()))
                 .visitNonNull(mv, ctx, getCursor().getParentOrThrow());
@@ -161,7 +162,7 @@ class TemporaryFolderToTempDirVisitor extends JavaVisitor<ExecutionContext> {
             J tempDir = mi.getSelect().withType(JavaType.ShallowClass.build("java.io.File"));
             return JavaTemplate.builder("File.createTempFile(\"junit\", null, #{any(java.io.File)})")
                     .imports("java.io.File")
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                     .build()
                     .apply(getCursor(), mi.getCoordinates().replace(), tempDir);
         }
@@ -206,8 +207,7 @@ class AddNewFolderOrFileMethod extends JavaIsoVisitor<ExecutionContext> {
             cd = JavaTemplate.builder(fileOrFolder.template)
                     .contextSensitive()
                     .imports("java.io.File", "java.io.IOException")
-                    .javaParser(JavaParser.fromJavaVersion()
-                            .classpathFromResources(ctx, "junit-jupiter-api-5"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                     .build()
                     .apply(updateCursor(cd), cd.getBody().getCoordinates().lastStatement());
             newMethodDeclaration = ((J.MethodDeclaration) cd.getBody().getStatements().get(cd.getBody().getStatements().size() - 1)).getMethodType();
@@ -260,7 +260,7 @@ class TranslateNewFolderOrFileMethodInvocation extends JavaVisitor<ExecutionCont
         if (args.isEmpty()) {
             return JavaTemplate.builder("newFolder(#{any(java.io.File)}, \"junit\")")
                     .imports("java.io.File")
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                     .build()
                     .apply(updateCursor(mi), mi.getCoordinates().replace(), tempDir);
         }
@@ -268,7 +268,7 @@ class TranslateNewFolderOrFileMethodInvocation extends JavaVisitor<ExecutionCont
         if (args.size() == 1) {
             return JavaTemplate.builder("newFolder(#{any(java.io.File)}, #{any(java.lang.String)})")
                     .imports("java.io.File")
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                     .build()
                     .apply(
                             updateCursor(mi),
@@ -286,7 +286,7 @@ class TranslateNewFolderOrFileMethodInvocation extends JavaVisitor<ExecutionCont
         return JavaTemplate.builder(sb.toString())
                 .contextSensitive()
                 .imports("java.io.File")
-                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                 .build()
                 .apply(
                         updateCursor(mi),
@@ -303,7 +303,7 @@ class TranslateNewFolderOrFileMethodInvocation extends JavaVisitor<ExecutionCont
         }
         return JavaTemplate.builder("newFile(#{any(java.io.File)}, #{any(java.lang.String)})")
                 .imports("java.io.File")
-                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                 .build()
                 .apply(updateCursor(mi), mi.getCoordinates().replace(), tempDir, args.get(0));
     }
@@ -22,7 +22,8 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Space;
 import org.openrewrite.java.tree.Statement;
@@ -45,7 +46,7 @@ public class TestRuleToTestInfo extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.junit.rules.TestName", false), new TestRuleToTestInfoVisitor());
+        return Preconditions.check(UsesIndex.usesType("org.junit.rules.TestName", false), new TestRuleToTestInfoVisitor());
     }
 
     private static class TestRuleToTestInfoVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -124,8 +125,7 @@ public class TestRuleToTestInfo extends Recipe {
                                "public void setup(TestInfo testInfo) {" + testMethodStatement + "}";
                     cd = JavaTemplate.builder(t)
                             .contextSensitive()
-                            .javaParser(JavaParser.fromJavaVersion()
-                                    .classpathFromResources(ctx, "junit-jupiter-api-5"))
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                             .imports("org.junit.jupiter.api.TestInfo",
                                     "org.junit.jupiter.api.BeforeEach",
                                     "java.util.Optional",
@@ -153,8 +153,7 @@ public class TestRuleToTestInfo extends Recipe {
         private final String testMethodStatement;
 
         private JavaParser.Builder<?, ?> javaParser(ExecutionContext ctx) {
-                return JavaParser.fromJavaVersion()
-                        .classpathFromResources(ctx, "junit-jupiter-api-5");
+                return JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5");
         }
 
         public BeforeMethodToTestInfoVisitor(J.MethodDeclaration beforeMethod, J.VariableDeclarations varDecls, String testMethodStatement) {
@@ -22,10 +22,10 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
@@ -51,7 +51,7 @@ public class TimeoutRuleToClassAnnotation extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.junit.rules.Timeout", false), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(UsesIndex.usesType("org.junit.rules.Timeout", false), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
                 J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
@@ -110,8 +110,7 @@ public class TimeoutRuleToClassAnnotation extends Recipe {
                 maybeAddImport("org.junit.jupiter.api.Timeout");
                 maybeAddImport("java.util.concurrent.TimeUnit");
                 return JavaTemplate.builder(template)
-                        .javaParser(JavaParser.fromJavaVersion()
-                                .classpathFromResources(ctx, "junit-jupiter-api-5", "hamcrest-3"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5", "hamcrest-3"))
                         .imports("org.junit.jupiter.api.Timeout",
                                 "java.util.concurrent.TimeUnit")
                         .build()
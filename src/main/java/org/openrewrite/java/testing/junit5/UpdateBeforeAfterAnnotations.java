@@ -21,7 +21,7 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.ChangeType;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 
 public class UpdateBeforeAfterAnnotations extends Recipe {
@@ -38,10 +38,10 @@ public class UpdateBeforeAfterAnnotations extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(Preconditions.or(
-                        new UsesType<>("org.junit.BeforeClass", false),
-                        new UsesType<>("org.junit.Before", false),
-                        new UsesType<>("org.junit.After", false),
-                        new UsesType<>("org.junit.AfterClass", false)
+                        UsesIndex.usesType("org.junit.BeforeClass", false),
+                        UsesIndex.usesType("org.junit.Before", false),
+                        UsesIndex.usesType("org.junit.After", false),
+                        UsesIndex.usesType("org.junit.AfterClass", false)
                 ),
                 new UpdateBeforeAfterAnnotationsVisitor());
     }
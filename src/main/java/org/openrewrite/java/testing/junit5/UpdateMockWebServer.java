@@ -19,10 +19,10 @@ import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.dependencies.UpgradeDependencyVersion;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -65,8 +65,8 @@ public class UpdateMockWebServer extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.and(
-                        new UsesType<>("org.junit.Rule", false),
-                        new UsesType<>("okhttp3.mockwebserver.MockWebServer", false)
+                        UsesIndex.usesType("org.junit.Rule", false),
+                        UsesIndex.usesType("okhttp3.mockwebserver.MockWebServer", false)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
 
@@ -80,9 +80,8 @@ public class UpdateMockWebServer extends Recipe {
                                 cd = JavaTemplate.builder("@AfterEach\nvoid afterEachTest() throws IOException {#{any(okhttp3.mockwebserver.MockWebServer)}.close();\n}")
                                         .contextSensitive()
                                         .imports(AFTER_EACH_FQN, MOCK_WEB_SERVER_FQN, IO_EXCEPTION_FQN)
-                                        .javaParser(JavaParser.fromJavaVersion()
-                                                .classpathFromResources(ctx, "junit-4", "junit-jupiter-api-5", "apiguardian-api-1.1",
-                                                        "mockwebserver-3.14"))
+                                        .javaParser(JavaParserRegistry.fromResources(ctx, "junit-4", "junit-jupiter-api-5", "apiguardian-api-1.1",
+                                                "mockwebserver-3.14"))
                                         .build()
                                         .apply(
                                                 updateCursor(cd),
@@ -97,9 +96,8 @@ public class UpdateMockWebServer extends Recipe {
                                         cd = JavaTemplate.builder("#{any(okhttp3.mockwebserver.MockWebServer)}.close();")
                                                 .contextSensitive()
                                                 .imports(AFTER_EACH_FQN, MOCK_WEB_SERVER_FQN, IO_EXCEPTION_FQN)
-                                                .javaParser(JavaParser.fromJavaVersion()
-                                                        .classpathFromResources(ctx, "junit-4", "junit-jupiter-api-5", "apiguardian-api-1.1",
-                                                                "mockwebserver-3.14"))
+                                                .javaParser(JavaParserRegistry.fromResources(ctx, "junit-4", "junit-jupiter-api-5", "apiguardian-api-1.1",
+                                                        "mockwebserver-3.14"))
                                                 .build()
                                                 .apply(
                                                         updateCursor(cd),
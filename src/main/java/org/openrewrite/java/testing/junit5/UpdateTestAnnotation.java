@@ -23,7 +23,8 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.FindImports;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaTemplateCache;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markup;
 import org.openrewrite.staticanalysis.LambdaBlockToExpression;
@@ -49,13 +50,14 @@ public class UpdateTestAnnotation extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(Preconditions.or(
-                new UsesType<>("org.junit.Test", false),
+                UsesIndex.usesType("org.junit.Test", false),
                 new FindImports("org.junit.Test", null).getVisitor()
         ), new UpdateTestAnnotationVisitor());
     }
 
     private static class UpdateTestAnnotationVisitor extends JavaIsoVisitor<ExecutionContext> {
         private static final AnnotationMatcher JUNIT4_TEST = new AnnotationMatcher("@org.junit.Test");
+        private static final String[] JUPITER_CLASSPATH = {"junit-jupiter-api-5", "apiguardian-api-1.1"};
 
         @Override
         public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
@@ -110,12 +112,10 @@ public class UpdateTestAnnotation extends Recipe {
             ChangeTestAnnotation cta = new ChangeTestAnnotation();
             J.MethodDeclaration m = (J.MethodDeclaration) cta.visitNonNull(method, ctx, getCursor().getParentOrThrow());
             if (m != method) {
-                JavaParser.Builder<?, ?> javaParser = JavaParser.fromJavaVersion()
-                        .classpathFromResources(ctx, "junit-jupiter-api-5", "apiguardian-api-1.1");
                 if (cta.expectedException != null) {
-                    m = JavaTemplate.builder("org.junit.jupiter.api.function.Executable o = () -> #{};")
-                            .javaParser(javaParser)
-                            .build()
+                    m = JavaTemplateCache.builder("org.junit.jupiter.api.function.Executable o = () -> #{};")
+                            .classpathFromResources(JUPITER_CLASSPATH)
+                            .build(ctx)
                             .apply(
                                     updateCursor(m),
                                     m.getCoordinates().replaceBody(),
@@ -130,17 +130,17 @@ public class UpdateTestAnnotation extends Recipe {
 
                     if (cta.expectedException instanceof J.FieldAccess &&
                         TypeUtils.isAssignableTo("org.junit.Test$None", ((J.FieldAccess) cta.expectedException).getTarget().getType())) {
-                        m = JavaTemplate.builder("assertDoesNotThrow(#{any(org.junit.jupiter.api.function.Executable)});")
-                                .javaParser(javaParser)
+                        m = JavaTemplateCache.builder("assertDoesNotThrow(#{any(org.junit.jupiter.api.function.Executable)});")
+                                .classpathFromResources(JUPITER_CLASSPATH)
                                 .staticImports("org.junit.jupiter.api.Assertions.assertDoesNotThrow")
-                                .build()
+                                .build(ctx)
                                 .apply(updateCursor(m), m.getCoordinates().replaceBody(), lambda);
                         maybeAddImport("org.junit.jupiter.api.Assertions", "assertDoesNotThrow");
                     } else {
-                        m = JavaTemplate.builder("assertThrows(#{any(java.lang.Class)}, #{any(org.junit.jupiter.api.function.Executable)});")
-                                .javaParser(javaParser)
+                        m = JavaTemplateCache.builder("assertThrows(#{any(java.lang.Class)}, #{any(org.junit.jupiter.api.function.Executable)});")
+                                .classpathFromResources(JUPITER_CLASSPATH)
                                 .staticImports("org.junit.jupiter.api.Assertions.assertThrows")
-                                .build()
+                                .build(ctx)
                                 .apply(updateCursor(m), m.getCoordinates().replaceBody(), cta.expectedException, lambda);
                         // Only remove the throws clause for the specific exception being tested
                         m = removeSpecificThrowsClause(m, cta.expectedException);
@@ -150,10 +150,10 @@ public class UpdateTestAnnotation extends Recipe {
                     }
                 }
                 if (cta.timeout != null) {
-                    m = JavaTemplate.builder("@Timeout(value = #{any(long)}, unit = TimeUnit.MILLISECONDS)")
-                            .javaParser(javaParser)
+                    m = JavaTemplateCache.builder("@Timeout(value = #{any(long)}, unit = TimeUnit.MILLISECONDS)")
+                            .classpathFromResources(JUPITER_CLASSPATH)
                             .imports("org.junit.jupiter.api.Timeout", "java.util.concurrent.TimeUnit")
-                            .build()
+                            .build(ctx)
                             .apply(
                                     updateCursor(m),
                                     m.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)),
@@ -215,11 +215,6 @@ public class UpdateTestAnnotation extends Recipe {
 
             boolean found;
 
-            private JavaParser.Builder<?, ?> javaParser(ExecutionContext ctx) {
-                   return JavaParser.fromJavaVersion()
-                            .classpathFromResources(ctx, "junit-jupiter-api-5", "apiguardian-api-1.1");
-            }
-
             @Override
             public J.Annotation visitAnnotation(J.Annotation a, ExecutionContext ctx) {
                 if (!found && JUNIT4_TEST.matches(a)) {
@@ -243,9 +238,9 @@ public class UpdateTestAnnotation extends Recipe {
                     }
 
                     if (a.getAnnotationType() instanceof J.FieldAccess) {
-                        a = JavaTemplate.builder("@org.junit.jupiter.api.Test")
-                                .javaParser(javaParser(ctx))
-                                .build()
+                        a = JavaTemplateCache.builder("@org.junit.jupiter.api.Test")
+                                .classpathFromResources(JUPITER_CLASSPATH)
+                                .build(ctx)
                                 .apply(getCursor(), a.getCoordinates().replace());
                     } else {
                         a = a.withArguments(null)
@@ -21,7 +21,7 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -99,8 +99,8 @@ public class UseAssertSame extends Recipe {
         };
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesMethod<>(ASSERT_TRUE_MATCHER),
-                        new UsesMethod<>(ASSERT_FALSE_MATCHER)),
+                        UsesIndex.usesMethod(ASSERT_TRUE_MATCHER),
+                        UsesIndex.usesMethod(ASSERT_FALSE_MATCHER)),
                 visitor);
     }
 
@@ -23,16 +23,21 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.trait.Annotated;
 import org.openrewrite.java.trait.Literal;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.Space;
+import org.openrewrite.java.tree.TypeUtils;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -52,13 +57,13 @@ public class MinimumJreConditions extends Recipe {
     private static final Annotated.Matcher DISABLED_JRE_MATCHER = new Annotated.Matcher("@" + DISABLED_ON_JRE);
     private static final Annotated.Matcher ENABLED_JRE_RANGE_MATCHER = new Annotated.Matcher("@" + ENABLED_FOR_JRE_RANGE);
     private static final Annotated.Matcher DISABLED_JRE_RANGE_MATCHER = new Annotated.Matcher("@" + DISABLED_FOR_JRE_RANGE);
-    private static final List<Annotated.Matcher> TEST_ANNOTATION_MATCHERS = Arrays.asList(
-            new Annotated.Matcher("@org.junit.jupiter.api.Test"),
-            new Annotated.Matcher("@org.junit.jupiter.api.TestFactory"),
-            new Annotated.Matcher("@org.junit.jupiter.api.TestTemplate"),
-            new Annotated.Matcher("@org.junit.jupiter.api.RepeatedTest"),
-            new Annotated.Matcher("@org.junit.jupiter.params.ParameterizedTest")
-    );
+    private static final Set<String> TEST_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.junit.jupiter.api.Test",
+            "org.junit.jupiter.api.TestFactory",
+            "org.junit.jupiter.api.TestTemplate",
+            "org.junit.jupiter.api.RepeatedTest",
+            "org.junit.jupiter.params.ParameterizedTest"
+    ));
 
     @Option(displayName = "JRE version", description = "The minimum JRE version to use for test conditions.", example = "17")
     String javaVersion;
@@ -75,7 +80,7 @@ public class MinimumJreConditions extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(UsesIndex.usesType("org.junit.jupiter.api.condition.*", false), new JavaIsoVisitor<ExecutionContext>() {
 
             @Override
             public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
@@ -106,34 +111,31 @@ public class MinimumJreConditions extends Recipe {
 
                 // First assemble all annotations to see if this is a unit test impacted with JRE conditional annotations
                 for (J.Annotation ann : method.getLeadingAnnotations()) {
-                    Cursor annotationCursor = new Cursor(getCursor(), ann);
-                    if (TEST_ANNOTATION_MATCHERS.stream().anyMatch(matcher -> matcher.get(annotationCursor).isPresent())) {
-                        isUnitTest = true;
-                    }
-                    Optional<Annotated> annotated = ENABLED_JRE_MATCHER.get(annotationCursor);
-                    if (annotated.isPresent()) {
-                        enabledOnJre = annotated.map(a -> getDefaultAttribute(a).map(this::extractVersionsFromAnnotationArgument)
-                                        .orElseGet(() -> a.getAttribute("versions").map(Literal::getStrings).orElse(null)))
-                                .orElse(null);
-                        prefix = ann.getPrefix();
-                    }
-                    annotated = DISABLED_JRE_MATCHER.get(annotationCursor);
-                    if (annotated.isPresent()) {
-                        disabledOnJre = annotated.map(a -> getDefaultAttribute(a).map(this::extractVersionsFromAnnotationArgument)
-                                        .orElseGet(() -> a.getAttribute("versions").map(Literal::getStrings).orElse(null)))
-                                .orElse(null);
-                        prefix = ann.getPrefix();
+                    String annotationType = annotationType(ann);
+                    if (annotationType == null) {
+                        continue;
                     }
-                    annotated = ENABLED_JRE_RANGE_MATCHER.get(annotationCursor);
-                    if (annotated.isPresent()) {
-                        enabledOnJreRange = annotated.map(Range::new).orElse(null);
-                        prefix = ann.getPrefix();
+                    if (TEST_ANNOTATIONS.contains(annotationType)) {
+                        isUnitTest = true;
+                        continue;
                     }
-                    annotated = DISABLED_JRE_RANGE_MATCHER.get(annotationCursor);
-                    if (annotated.isPresent()) {
-                        disabledOnJreRange = annotated.map(Range::new).orElse(null);
-                        prefix = ann.getPrefix();
+                    switch (annotationType) {
+                        case ENABLED_ON_JRE:
+                            enabledOnJre = ENABLED_JRE_MATCHER.get(new Cursor(getCursor(), ann)).map(this::getVersions).orElse(null);
+                            break;
+                        case DISABLED_ON_JRE:
+                            disabledOnJre = DISABLED_JRE_MATCHER.get(new Cursor(getCursor(), ann)).map(this::getVersions).orElse(null);
+                            break;
+                        case ENABLED_FOR_JRE_RANGE:
+                            enabledOnJreRange = ENABLED_JRE_RANGE_MATCHER.get(new Cursor(getCursor(), ann)).map(Range::new).orElse(null);
+                            break;
+                        case DISABLED_FOR_JRE_RANGE:
+                            disabledOnJreRange = DISABLED_JRE_RANGE_MATCHER.get(new Cursor(getCursor(), ann)).map(Range::new).orElse(null);
+                            break;
+                        default:
+                            continue;
                     }
+                    prefix = ann.getPrefix();
                 }
 
                 // Only act upon unit tests that have JRE conditions
@@ -234,11 +236,7 @@ public class MinimumJreConditions extends Recipe {
 
             private J.MethodDeclaration simplifySingleValueAnnotationAttributeArrays(J.MethodDeclaration m, Space prefix) {
                 return m.withLeadingAnnotations(ListUtils.map(m.getLeadingAnnotations(), ann -> {
-                    Cursor parentCursor = getCursor().getParent();
-                    if (ENABLED_JRE_MATCHER.get(ann, parentCursor).isPresent() ||
-                            DISABLED_JRE_MATCHER.get(ann, parentCursor).isPresent() ||
-                            ENABLED_JRE_RANGE_MATCHER.get(ann, parentCursor).isPresent() ||
-                            DISABLED_JRE_RANGE_MATCHER.get(ann, parentCursor).isPresent()) {
+                    if (isJreCondition(annotationType(ann))) {
                         ann = ann
                                 .withArguments(ListUtils.map(ann.getArguments(), arg -> {
                                     if (arg instanceof J.Assignment) {
@@ -258,6 +256,11 @@ public class MinimumJreConditions extends Recipe {
                 }));
             }
 
+            private @Nullable List<String> getVersions(Annotated annotated) {
+                return getDefaultAttribute(annotated).map(this::extractVersionsFromAnnotationArgument)
+                        .orElseGet(() -> annotated.getAttribute("versions").map(Literal::getStrings).orElse(null));
+            }
+
             private List<String> extractVersionsFromAnnotationArgument(Expression expression) {
                 if (expression instanceof J.NewArray) {
                     List<Expression> initializer = ((J.NewArray) expression).getInitializer();
@@ -268,7 +271,23 @@ public class MinimumJreConditions extends Recipe {
                 }
                 return singletonList(expression.toString());
             }
-        };
+        });
+    }
+
+    /**
+     * The fully qualified name of the annotation type, by which annotations are classified once, instead of matching
+     * each annotation against the test annotations and each of the JRE conditions.
+     */
+    private static @Nullable String annotationType(J.Annotation annotation) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+        return type == null ? null : type.getFullyQualifiedName();
+    }
+
+    private static boolean isJreCondition(@Nullable String annotationType) {
+        return ENABLED_ON_JRE.equals(annotationType) ||
+                DISABLED_ON_JRE.equals(annotationType) ||
+                ENABLED_FOR_JRE_RANGE.equals(annotationType) ||
+                DISABLED_FOR_JRE_RANGE.equals(annotationType);
     }
 
     private static Optional<Expression> getDefaultAttribute(Annotated annotated) {
@@ -20,11 +20,11 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.search.FindAnnotations;
 import org.openrewrite.java.search.FindTypes;
 import org.openrewrite.java.search.IsLikelyTest;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
 import org.openrewrite.java.tree.J;
 
 import static java.util.Comparator.comparing;
@@ -70,7 +70,7 @@ public class AddMockitoExtensionIfAnnotationsUsed extends Recipe {
                         return JavaTemplate.builder("@ExtendWith(MockitoExtension.class)")
                                 .imports("org.mockito.junit.jupiter.MockitoExtension")
                                 .imports("org.junit.jupiter.api.extension.ExtendWith")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api", "mockito-junit-jupiter"))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api", "mockito-junit-jupiter"))
                                 .build()
                                 .apply(getCursor(), classDecl.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
                     }
@@ -20,10 +20,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 
 import java.time.Duration;
@@ -51,7 +51,7 @@ public class AnyStringToNullable extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(ANY_STRING), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(UsesIndex.usesMethod(ANY_STRING), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
@@ -59,7 +59,7 @@ public class AnyStringToNullable extends Recipe {
                     maybeAddImport("org.mockito.ArgumentMatchers", "nullable", false);
                     maybeRemoveImport("org.mockito.Mockito.anyString");
                     return JavaTemplate.builder("nullable(String.class)")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core-3.12"))
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "mockito-core-3.12"))
                             .staticImports("org.mockito.ArgumentMatchers.nullable")
                             .build()
                             .apply(getCursor(), mi.getCoordinates().replace());
@@ -21,7 +21,7 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.java.tree.TypeUtils;
@@ -47,7 +47,7 @@ public class CleanupMockitoImports extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.and(
-                    new UsesType<>("org.mockito.*", false),
+                    UsesIndex.usesType("org.mockito.*", false),
                     Preconditions.not(new KotlinFileChecker<>())
                 ),
                 new CleanupMockitoImportsVisitor());
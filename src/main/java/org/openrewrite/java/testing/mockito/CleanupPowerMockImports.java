@@ -20,7 +20,7 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaSourceFile;
 
@@ -38,7 +38,7 @@ public class CleanupPowerMockImports extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesType<>("org.powermock..*", false),
+                UsesIndex.usesType("org.powermock..*", false),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J preVisit(J tree, ExecutionContext ctx) {
@@ -20,7 +20,8 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.trait.Annotated;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
@@ -65,7 +66,7 @@ public class CloseUnclosedStaticMocks extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(MOCK_STATIC_MATCHER), new CloseUnclosedStaticMocksVisitor());
+        return Preconditions.check(UsesIndex.usesMethod(MOCK_STATIC_MATCHER), new CloseUnclosedStaticMocksVisitor());
     }
 
     private static class CloseUnclosedStaticMocksVisitor extends JavaVisitor<ExecutionContext> {
@@ -215,7 +216,7 @@ public class CloseUnclosedStaticMocks extends Recipe {
             J.Try tryWithResources = JavaTemplate.builder(code)
                     .contextSensitive()
                     .imports("org.mockito.MockedStatic")
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core-5"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "mockito-core-5"))
                     .build().apply(new Cursor(getCursor(), statement), statement.getCoordinates().replace(), statement);
             return maybeAutoFormat(tryWithResources, tryWithResources.withBody(findSuccessorStatements(statement, block)), ctx);
         }
@@ -308,7 +309,7 @@ public class CloseUnclosedStaticMocks extends Recipe {
                 String varTemplate = "private " + modifier + "MockedStatic<" + mockedClassName + "> " + varName + ";";
                 cd = JavaTemplate.builder(varTemplate)
                         .contextSensitive()
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core-5"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "mockito-core-5"))
                         .imports("org.mockito.MockedStatic")
                         .build().apply(getCursor(), classDecl.getBody().getCoordinates().firstStatement());
             }
@@ -321,7 +322,7 @@ public class CloseUnclosedStaticMocks extends Recipe {
                     isStatic ? "@AfterAll public static" : "@AfterEach public", methodName, varName);
             return JavaTemplate.builder(methodTemplate)
                     .contextSensitive()
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                    .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                     .imports("org.junit.jupiter.api.AfterEach", "org.junit.jupiter.api.AfterAll")
                     .build().apply(updateCursor(cd), classDecl.getBody().getCoordinates().lastStatement());
         }
@@ -20,7 +20,7 @@ import org.openrewrite.java.ChangeMethodTargetToStatic;
 import org.openrewrite.java.DeleteStatement;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 
 /**
@@ -49,7 +49,7 @@ public class MockUtilsToStatic extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.mockito.internal.util.MockUtil", false), new MockUtilsToStaticVisitor());
+        return Preconditions.check(UsesIndex.usesType("org.mockito.internal.util.MockUtil", false), new MockUtilsToStaticVisitor());
     }
 
     public static class MockUtilsToStaticVisitor extends JavaVisitor<ExecutionContext> {
@@ -23,9 +23,9 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.testing.junit5.RemoveObsoleteRunners;
 import org.openrewrite.java.testing.junit5.RunnerToExtension;
 import org.openrewrite.java.trait.Annotated;
@@ -54,7 +54,7 @@ public class MockitoJUnitRunnerToExtension extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.mockito.junit.MockitoJUnitRunner*", false), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(UsesIndex.usesType("org.mockito.junit.MockitoJUnitRunner*", false), new JavaIsoVisitor<ExecutionContext>() {
 
             final String runWith = "@org.junit.runner.RunWith";
             final String extendWithMockito = "@org.junit.jupiter.api.extension.ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)";
@@ -132,8 +132,7 @@ public class MockitoJUnitRunnerToExtension extends Recipe {
                 }
                 return Optional.of(JavaTemplate.builder("@MockitoSettings(strictness = Strictness." + strictness + ")")
                         .imports("org.mockito.quality.Strictness", "org.mockito.junit.jupiter.MockitoSettings")
-                        .javaParser(JavaParser.fromJavaVersion()
-                                .classpathFromResources(ctx, "mockito-junit-jupiter-3.12", "mockito-core-3.12"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "mockito-junit-jupiter-3.12", "mockito-core-3.12"))
                         .build());
             }
         });
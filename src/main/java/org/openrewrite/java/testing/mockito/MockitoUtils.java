@@ -19,9 +19,9 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.java.AnnotationMatcher;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Statement;
 
@@ -55,7 +55,7 @@ public class MockitoUtils {
           (isPublic ? " public" : "") + " void " + methodName + "() {}";
         return JavaTemplate.builder(tplStr)
                 .contextSensitive()
-                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, additionalClasspathResource))
+                .javaParser(JavaParserRegistry.fromResources(ctx, additionalClasspathResource))
                 .imports(importToAdd)
                 .build()
                 .apply(
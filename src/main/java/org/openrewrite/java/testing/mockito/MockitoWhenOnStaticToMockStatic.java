@@ -19,7 +19,8 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 
 import java.util.*;
@@ -63,7 +64,7 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(MOCKITO_WHEN), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(UsesIndex.usesMethod(MOCKITO_WHEN), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
                 J.MethodDeclaration containingMethod = getCursor().firstEnclosing(J.MethodDeclaration.class);
@@ -230,7 +231,7 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
                         maybeAddImport(importClass);
                         return JavaTemplate.builder(template)
                                 .imports(importClass)
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, classpaths))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, classpaths))
                                 .build()
                                 .apply(updateCursor(after), beforeMethod.getCoordinates().after());
                     }
@@ -258,7 +259,7 @@ public class MockitoWhenOnStaticToMockStatic extends Recipe {
                         .contextSensitive()
                         .imports("org.mockito.MockedStatic")
                         .staticImports("org.mockito.Mockito.mockStatic")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core-5"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "mockito-core-5"))
                         .build();
             }
         });
@@ -20,7 +20,8 @@ import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.FindAnnotations;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 
 import java.util.*;
@@ -47,8 +48,8 @@ public class PowerMockitoMockStaticToMockito extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesType<>("org.powermock..*", false),
-                        new UsesType<>("org.mockito..*", false)
+                        UsesIndex.usesType("org.powermock..*", false),
+                        UsesIndex.usesType("org.mockito..*", false)
                 ),
                 new PowerMockitoToMockitoVisitor()
         );
@@ -269,7 +270,7 @@ public class PowerMockitoMockStaticToMockito extends Recipe {
                     if (methodInvocation != null) {
                         m = JavaTemplate.builder("mocked#{any(org.mockito.MockedStatic)} = #{any(org.mockito.Mockito)};")
                                 .contextSensitive()
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core-3.12"))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, "mockito-core-3.12"))
                                 .build()
                                 .apply(
                                         new Cursor(getCursor().getParentOrThrow(), m),
@@ -292,7 +293,7 @@ public class PowerMockitoMockStaticToMockito extends Recipe {
                 }
                 m = JavaTemplate.builder("#{any(org.mockito.MockedStatic)}.closeOnDemand();")
                         .contextSensitive()
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core-3.12"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "mockito-core-3.12"))
                         .build()
                         .apply(
                                 new Cursor(getCursor().getParentOrThrow(), m),
@@ -420,7 +421,7 @@ public class PowerMockitoMockStaticToMockito extends Recipe {
                 }
                 classDecl = JavaTemplate.builder("private MockedStatic<#{}> " + MOCK_PREFIX + "#{};")
                         .contextSensitive()
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core-3.12"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "mockito-core-3.12"))
                         .staticImports("org.mockito.Mockito.mockStatic")
                         .imports(MOCKED_STATIC)
                         .build()
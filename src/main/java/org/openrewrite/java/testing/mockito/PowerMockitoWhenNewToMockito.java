@@ -19,7 +19,8 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
@@ -65,7 +66,7 @@ public class PowerMockitoWhenNewToMockito extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(PM_WHEN_NEW), new JavaVisitor<ExecutionContext>() {
+        return Preconditions.check(UsesIndex.usesMethod(PM_WHEN_NEW), new JavaVisitor<ExecutionContext>() {
             @Override
             public @Nullable J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 if (THEN_RETURN.matches(method) && method.getSelect() instanceof J.MethodInvocation) {
@@ -110,7 +111,7 @@ public class PowerMockitoWhenNewToMockito extends Recipe {
                         J.MethodDeclaration appliedTemplate = JavaTemplate.builder(String.format("try (MockedConstruction<%s> %s = Mockito.mockConstruction(%s.class)) { } ", mockedClassName, variableNameForMock, mockedClassName))
                                 .contextSensitive()
                                 .imports("org.mockito.MockedConstruction")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core"))
+                                .javaParser(JavaParserRegistry.fromResources(ctx, "mockito-core"))
                                 .build()
                                 .apply(getCursor(), method.getCoordinates().replaceBody());
                         J.Try try_ = (J.Try) appliedTemplate.getBody().getStatements().get(0);
@@ -23,9 +23,8 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.service.AnnotationService;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 
 public class RemoveInitMocksIfRunnersSpecified extends Recipe {
@@ -50,10 +49,10 @@ public class RemoveInitMocksIfRunnersSpecified extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.and(
-                        new UsesMethod<>(INIT_MOCKS_MATCHER),
+                        UsesIndex.usesMethod(INIT_MOCKS_MATCHER),
                         Preconditions.or(
-                                new UsesType<>(MOCKITO_EXTENSION, false),
-                                new UsesType<>(MOCKITO_JUNIT_RUNNER, false)
+                                UsesIndex.usesType(MOCKITO_EXTENSION, false),
+                                UsesIndex.usesType(MOCKITO_JUNIT_RUNNER, false)
                         )
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
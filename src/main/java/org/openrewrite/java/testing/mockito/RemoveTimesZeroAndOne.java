@@ -21,10 +21,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 
@@ -46,8 +46,8 @@ public class RemoveTimesZeroAndOne extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.and(
-                        new UsesMethod<>(verifyMatcher),
-                        new UsesMethod<>(timesMatcher)
+                        UsesIndex.usesMethod(verifyMatcher),
+                        UsesIndex.usesMethod(timesMatcher)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
@@ -58,7 +58,7 @@ public class RemoveTimesZeroAndOne extends Recipe {
                             maybeRemoveImport("org.mockito.Mockito.times");
                             return JavaTemplate.builder("never()")
                                     .staticImports("org.mockito.Mockito.never")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core"))
+                                    .javaParser(JavaParserRegistry.fromResources(ctx, "mockito-core"))
                                     .build()
                                     .apply(getCursor(), mi.getCoordinates().replace());
                         }
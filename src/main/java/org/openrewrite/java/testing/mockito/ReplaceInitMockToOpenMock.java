@@ -21,9 +21,9 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.service.AnnotationService;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -54,10 +54,10 @@ public class ReplaceInitMockToOpenMock extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         TreeVisitor<?, ExecutionContext> preconditions = Preconditions.and(
-                new UsesMethod<>(INIT_MOCKS_MATCHER),
-                new UsesType<>(JUPITER_BEFORE_EACH, false),
-                Preconditions.not(new UsesType<>(MOCKITO_EXTENSION, false)),
-                Preconditions.not(new UsesType<>(MOCKITO_JUNIT_RUNNER, false))
+                UsesIndex.usesMethod(INIT_MOCKS_MATCHER),
+                UsesIndex.usesType(JUPITER_BEFORE_EACH, false),
+                Preconditions.not(UsesIndex.usesType(MOCKITO_EXTENSION, false)),
+                Preconditions.not(UsesIndex.usesType(MOCKITO_JUNIT_RUNNER, false))
         );
         return Preconditions.check(preconditions, new JavaIsoVisitor<ExecutionContext>() {
                     private String variableName = "mocks";
@@ -108,7 +108,7 @@ public class ReplaceInitMockToOpenMock extends Recipe {
                             if (!isAnnotatedMethodPresent(cd, AFTER_EACH_MATCHER) && isAnnotatedMethodPresent(cd, BEFORE_EACH_MATCHER)) {
                                 maybeAddImport("org.junit.jupiter.api.AfterEach");
                                 cd = JavaTemplate.builder("@AfterEach\nvoid " + tearDownMethodName(cd) + "() throws Exception {\n}")
-                                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "junit-jupiter-api-5"))
+                                        .javaParser(JavaParserRegistry.fromResources(ctx, "junit-jupiter-api-5"))
                                         .imports("org.junit.jupiter.api.AfterEach")
                                         .build()
                                         .apply(getCursor(), cd.getBody().getCoordinates().lastStatement());
@@ -131,7 +131,7 @@ public class ReplaceInitMockToOpenMock extends Recipe {
                                         J.MethodInvocation mi = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
                                         if (INIT_MOCKS_MATCHER.matches(mi)) {
                                             return JavaTemplate.builder(variableName + " = MockitoAnnotations.openMocks(this);")
-                                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "mockito-core"))
+                                                    .javaParser(JavaParserRegistry.fromResources(ctx, "mockito-core"))
                                                     .imports("org.mockito.MockitoAnnotations")
                                                     .contextSensitive()
                                                     .build()
@@ -21,7 +21,7 @@ import org.openrewrite.java.ChangeMethodName;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.dependencies.DependencyInsight;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -63,7 +63,7 @@ public class VerifyZeroToNoMoreInteractions extends ScanningRecipe<AtomicBoolean
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(AtomicBoolean usingOlderMockito) {
         return Preconditions.check(usingOlderMockito.get(),
-                Preconditions.check(new UsesMethod<>(ASSERT_INSTANCE_OF_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
+                Preconditions.check(UsesIndex.usesMethod(ASSERT_INSTANCE_OF_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                         J.MethodInvocation md = super.visitMethodInvocation(method, ctx);
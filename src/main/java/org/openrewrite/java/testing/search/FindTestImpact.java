@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.search;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.IsLikelyNotTest;
+import org.openrewrite.java.tree.J;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+
+public class FindTestImpact extends ScanningRecipe<FindTestImpact.Accumulator> {
+
+    transient TestImpactTable testImpactTable = new TestImpactTable(this);
+
+    @Override
+    public String getDisplayName() {
+        return "Find the unit tests of each production method";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Produces a data table that maps each production method to the unit tests invoking it, sorted by " +
+               "production method. Methods are matched on their signature, so that a build can look up the tests " +
+               "to run for the methods it changed.";
+    }
+
+    @Getter
+    public static class Accumulator {
+        private final FindUnitTests.Accumulator unitTests = new FindUnitTests.Accumulator();
+        private final SortedSet<String> productionMethods = new TreeSet<>();
+        private boolean reported;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        TreeVisitor<?, ExecutionContext> unitTestScanner = FindUnitTests.matchingOnSignature().getScanner(acc.getUnitTests());
+        TreeVisitor<?, ExecutionContext> productionMethodScanner = Preconditions.check(
+                new IsLikelyNotTest().getVisitor(),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        if (method.getMethodType() != null) {
+                            acc.getProductionMethods().add(MethodMatcher.methodPattern(method));
+                        }
+                        return super.visitMethodDeclaration(method, ctx);
+                    }
+                });
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                unitTestScanner.visit(tree, ctx);
+                productionMethodScanner.visit(tree, ctx);
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        // Rows are inserted once all source files have been scanned, so that they are sorted
+        if (!acc.reported) {
+            acc.reported = true;
+            acc.getUnitTests().reportTruncation(ctx);
+            for (String productionMethod : acc.getProductionMethods()) {
+                Set<UnitTest> unitTests = new TreeSet<>(comparing(UnitTest::getClazz).thenComparing(UnitTest::getUnitTestName));
+                for (FindUnitTests.Usage usage : acc.getUnitTests().getUsagesBySignature(productionMethod)) {
+                    unitTests.add(usage.getUnitTest());
+                }
+                for (UnitTest unitTest : unitTests) {
+                    testImpactTable.insertRow(ctx, new TestImpactTable.Row(
+                            productionMethod,
+                            unitTest.getClazz(),
+                            unitTest.getUnitTestName()
+                    ));
+                }
+            }
+        }
+        return emptyList();
+    }
+}
@@ -16,29 +16,45 @@
 package org.openrewrite.java.testing.search;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
 import org.openrewrite.Preconditions;
 import org.openrewrite.ScanningRecipe;
+import org.openrewrite.SourceFile;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.IsLikelyNotTest;
 import org.openrewrite.java.search.IsLikelyTest;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.marker.SearchResult;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyList;
 
 
 public class FindUnitTests extends ScanningRecipe<FindUnitTests.Accumulator> {
 
     private transient @Nullable Accumulator acc = new Accumulator();
     transient FindUnitTestTable unitTestTable = new FindUnitTestTable(this);
+    @Option(displayName = "Match on signature",
+            description = "Only report a method as used by a test when the test invokes that exact method, " +
+                    "comparing declaring type and parameter types rather than just the method name. " +
+                    "Invocations without type attribution are then ignored.",
+            example = "true",
+            required = false)
+    @Getter
+    @Nullable
+    private Boolean matchOnSignature;
 
     public FindUnitTests() {
     }
@@ -49,6 +65,18 @@ public class FindUnitTests extends ScanningRecipe<FindUnitTests.Accumulator> {
         this.acc = acc;
     }
 
+    /**
+     * A factory rather than a constructor, as {@code new FindUnitTests(null)} would be ambiguous with
+     * {@link #FindUnitTests(Accumulator)}.
+     *
+     * @return A recipe that only reports a method as used by a test when the test invokes that exact method.
+     */
+    public static FindUnitTests matchingOnSignature() {
+        FindUnitTests findUnitTests = new FindUnitTests();
+        findUnitTests.matchOnSignature = true;
+        return findUnitTests;
+    }
+
     @Override
     public String getDisplayName() {
         return "Find unit tests";
@@ -59,27 +87,212 @@ public class FindUnitTests extends ScanningRecipe<FindUnitTests.Accumulator> {
         return "Produces a data table showing how methods are used in unit tests.";
     }
 
+    /**
+     * What was found while scanning the tests. Only names, method signatures and source snippets shortened to
+     * {@link #MAXIMUM_SNIPPET_LENGTH} are kept rather than the LST elements they came from, and no more than
+     * {@link #getMaximumInvocations()} distinct invocations are recorded, so that the scan of a large repository
+     * does not hold on to its trees.
+     */
     @Getter
     public static class Accumulator {
+        static final int MAXIMUM_SNIPPET_LENGTH = 500;
+
         private final Map<String, AccumulatorValue> unitTestsByKey = new HashMap<>();
 
-        public void addMethodInvocation(String clazz, String testName, String testBody, J.MethodInvocation invocation) {
+        /**
+         * The same invocations as in {@link #unitTestsByKey}, indexed by the name and by the signature of the
+         * invoked method, so that each method declaration is matched with a single lookup.
+         */
+        @Getter(AccessLevel.NONE)
+        private final Map<String, List<Usage>> usagesByMethodName = new HashMap<>();
+
+        @Getter(AccessLevel.NONE)
+        private final Map<String, List<Usage>> usagesBySignature = new HashMap<>();
+
+        @Getter(AccessLevel.NONE)
+        private final Map<String, String> names = new HashMap<>();
+
+        private final int maximumInvocations;
+        private int invocationCount;
+
+        /**
+         * Whether invocations were dropped because {@link #getMaximumInvocations()} was reached.
+         */
+        private boolean truncated;
+
+        @Getter(AccessLevel.NONE)
+        private boolean truncationReported;
+
+        public Accumulator() {
+            this(1_000_000);
+        }
+
+        public Accumulator(int maximumInvocations) {
+            this.maximumInvocations = maximumInvocations;
+        }
+
+        public void addMethodInvocation(String clazz, String testName, Supplier<String> testBody, Invocation invocation) {
             String key = clazz + "#" + testName;
             AccumulatorValue value = unitTestsByKey.get(key);
             if (value == null) {
-                UnitTest unitTest = new UnitTest(clazz, testName, testBody);
-                value = new AccumulatorValue(unitTest, new HashSet<>());
+                if (invocationCount >= maximumInvocations) {
+                    truncated = true;
+                    return;
+                }
+                UnitTest unitTest = new UnitTest(intern(clazz), intern(testName), shorten(testBody.get()));
+                value = new AccumulatorValue(unitTest, new LinkedHashSet<>());
                 unitTestsByKey.put(key, value);
             }
+            if (value.getMethodInvocations().contains(invocation)) {
+                return;
+            }
+            if (invocationCount >= maximumInvocations) {
+                truncated = true;
+                return;
+            }
+            invocation = new Invocation(
+                    intern(invocation.getMethodName()),
+                    invocation.getSignature() == null ? null : intern(invocation.getSignature()),
+                    shorten(invocation.getSnippet()));
             value.getMethodInvocations().add(invocation);
+            Usage usage = new Usage(value.getUnitTest(), invocation);
+            usagesByMethodName.computeIfAbsent(invocation.getMethodName(), k -> new ArrayList<>()).add(usage);
+            if (invocation.getSignature() != null) {
+                usagesBySignature.computeIfAbsent(invocation.getSignature(), k -> new ArrayList<>()).add(usage);
+            }
+            invocationCount++;
+        }
+
+        /**
+         * @deprecated Use {@link #addMethodInvocation(String, String, Supplier, Invocation)}, which does not keep the
+         * invocation's LST element.
+         */
+        @Deprecated
+        public void addMethodInvocation(String clazz, String testName, String testBody, J.MethodInvocation invocation) {
+            addMethodInvocation(clazz, testName, () -> testBody,
+                    Invocation.of(invocation, new Cursor(null, Cursor.ROOT_VALUE)));
+        }
+
+        public List<Usage> getUsages(String methodName) {
+            return usagesByMethodName.getOrDefault(methodName, emptyList());
+        }
+
+        /**
+         * @param signature A method as a {@link MethodMatcher} pattern.
+         */
+        public List<Usage> getUsagesBySignature(String signature) {
+            return usagesBySignature.getOrDefault(signature, emptyList());
+        }
+
+        /**
+         * Report through {@link ExecutionContext#getOnError()}, once, that invocations were dropped, as the results
+         * of a truncated scan are incomplete without it being visible in them.
+         */
+        void reportTruncation(ExecutionContext ctx) {
+            if (truncated && !truncationReported) {
+                truncationReported = true;
+                ctx.getOnError().accept(new IllegalStateException(
+                        "Only the first " + maximumInvocations + " method invocations in unit tests were recorded, " +
+                        "so the unit tests found for methods are incomplete."));
+            }
+        }
+
+        private String intern(String name) {
+            return names.computeIfAbsent(name, n -> n);
+        }
+
+        static String shorten(String snippet) {
+            return snippet.length() > MAXIMUM_SNIPPET_LENGTH ?
+                    snippet.substring(0, MAXIMUM_SNIPPET_LENGTH) + "..." :
+                    snippet;
+        }
+    }
+
+    /**
+     * A method invoked from a unit test.
+     */
+    @Value
+    public static class Invocation {
+        String methodName;
+
+        /**
+         * The invoked method as a {@link MethodMatcher} pattern, or {@code null} when the invocation is not type attributed.
+         */
+        @Nullable
+        String signature;
+
+        String snippet;
+
+        public static Invocation of(J.MethodInvocation method, Cursor cursor) {
+            return new Invocation(
+                    method.getSimpleName(),
+                    method.getMethodType() == null ? null : MethodMatcher.methodPattern(declared(method.getMethodType())),
+                    method.printTrimmed(cursor));
+        }
+
+        /**
+         * The type of an invoked method has the type arguments of the invocation in place of the type variables of
+         * its declaration, so its signature is taken from the method as its declaring type declares it instead.
+         */
+        private static JavaType.Method declared(JavaType.Method invoked) {
+            JavaType.Method declared = null;
+            for (JavaType.Method method : invoked.getDeclaringType().getMethods()) {
+                if (method.getName().equals(invoked.getName()) &&
+                    method.getParameterTypes().size() == invoked.getParameterTypes().size() &&
+                    erasedParametersMatch(method, invoked)) {
+                    if (declared != null) {
+                        // Ambiguous once erased, so keep the invoked signature
+                        return invoked;
+                    }
+                    declared = method;
+                }
+            }
+            return declared == null ? invoked : declared;
+        }
+
+        private static boolean erasedParametersMatch(JavaType.Method declared, JavaType.Method invoked) {
+            for (int i = 0; i < declared.getParameterTypes().size(); i++) {
+                if (!erasedTypeMatches(declared.getParameterTypes().get(i), invoked.getParameterTypes().get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean erasedTypeMatches(JavaType declared, JavaType invoked) {
+            if (declared instanceof JavaType.GenericTypeVariable) {
+                return true;
+            }
+            if (declared instanceof JavaType.Array && invoked instanceof JavaType.Array) {
+                return erasedTypeMatches(((JavaType.Array) declared).getElemType(), ((JavaType.Array) invoked).getElemType());
+            }
+            JavaType.FullyQualified declaredClass = TypeUtils.asFullyQualified(declared);
+            JavaType.FullyQualified invokedClass = TypeUtils.asFullyQualified(invoked);
+            if (declaredClass != null && invokedClass != null) {
+                return declaredClass.getFullyQualifiedName().equals(invokedClass.getFullyQualifiedName());
+            }
+            return TypeUtils.isOfType(declared, invoked);
         }
     }
 
+    /**
+     * The invocation is an {@link Invocation} rather than the {@link J.MethodInvocation} it was found as, as the
+     * accumulator no longer keeps LST elements.
+     */
+    @Value
+    public static class Usage {
+        UnitTest unitTest;
+        Invocation methodInvocation;
+    }
 
+    /**
+     * Note that {@link #getMethodInvocations()} returns {@link Invocation}s, and no longer the
+     * {@link J.MethodInvocation}s they were found as, as the accumulator does not keep LST elements.
+     */
     @Value
     public static class AccumulatorValue {
         UnitTest unitTest;
-        Set<J.MethodInvocation> methodInvocations;
+        Set<Invocation> methodInvocations;
     }
 
     @Override
@@ -106,9 +319,14 @@ public class FindUnitTests extends ScanningRecipe<FindUnitTests.Accumulator> {
 
                     String testName = methodDeclaration.getSimpleName();
 
-                    String testBody = methodDeclaration.printTrimmed(getCursor());
+                    // The test body is only printed for the first invocation found in each test
+                    Cursor testCursor = getCursor().dropParentUntil(J.MethodDeclaration.class::isInstance).getParentOrThrow();
+                    Supplier<String> testBody = () -> methodDeclaration.printTrimmed(testCursor);
 
-                    acc.addMethodInvocation(clazz, testName, testBody, method);
+                    Invocation invocation = Invocation.of(method, getCursor().getParentOrThrow());
+                    if (invocation.getSignature() != null || !Boolean.TRUE.equals(matchOnSignature)) {
+                        acc.addMethodInvocation(clazz, testName, testBody, invocation);
+                    }
                 }
                 return super.visitMethodInvocation(method, ctx);
             }
@@ -117,27 +335,36 @@ public class FindUnitTests extends ScanningRecipe<FindUnitTests.Accumulator> {
         return Preconditions.check(new IsLikelyTest().getVisitor(), scanningVisitor);
     }
 
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        acc.reportTruncation(ctx);
+        return emptyList();
+    }
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
         JavaVisitor<ExecutionContext> tableRowVisitor = new JavaVisitor<ExecutionContext>() {
             @Override
             public J visitMethodDeclaration(J.MethodDeclaration methodDeclaration, ExecutionContext ctx) {
-                // Iterate over each stored AccumulatorValue
-                for (AccumulatorValue value : acc.getUnitTestsByKey().values()) {
-                    UnitTest unitTest = value.getUnitTest();
-                    for (J.MethodInvocation invocation : value.getMethodInvocations()) {
-                        // If the invoked method name matches the current methodDeclaration's name,
-                        // we assume we've found "usage" of that method inside the test
-                        if (invocation.getSimpleName().equals(methodDeclaration.getSimpleName())) {
-                            unitTestTable.insertRow(ctx, new FindUnitTestTable.Row(
-                                    methodDeclaration.getName().toString(),
-                                    methodDeclaration.getSimpleName(),
-                                    invocation.printTrimmed(getCursor()),
-                                    unitTest.getClazz(),
-                                    unitTest.getUnitTestName()
-                            ));
-                        }
-                    }
+                // Each invocation of a method with the same name as the current methodDeclaration
+                // is assumed to be a "usage" of that method inside the test, unless matching on signature
+                List<Usage> usages;
+                if (Boolean.TRUE.equals(matchOnSignature)) {
+                    usages = methodDeclaration.getMethodType() == null ?
+                            emptyList() :
+                            acc.getUsagesBySignature(MethodMatcher.methodPattern(methodDeclaration));
+                } else {
+                    usages = acc.getUsages(methodDeclaration.getSimpleName());
+                }
+                for (Usage usage : usages) {
+                    UnitTest unitTest = usage.getUnitTest();
+                    unitTestTable.insertRow(ctx, new FindUnitTestTable.Row(
+                            methodDeclaration.getName().toString(),
+                            methodDeclaration.getSimpleName(),
+                            usage.getMethodInvocation().getSnippet(),
+                            unitTest.getClazz(),
+                            unitTest.getUnitTestName()
+                    ));
                 }
                 SearchResult.found(methodDeclaration);
                 return super.visitMethodDeclaration(methodDeclaration, ctx);
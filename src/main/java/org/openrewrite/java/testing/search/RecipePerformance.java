@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.search;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Per source file timings of a recipe and the recipes in its recipe list. Every row is one traversal of a source file
+ * by a recipe's scanner or visitor, so the number of rows for a recipe and source path is the number of times that
+ * recipe visited the file.
+ * <p>
+ * Rows are only collected for a recipe run with the recipe returned by {@link #measure(Recipe)}, which leaves the
+ * recipes themselves untouched. As the time is measured around each recipe's visitor, it includes the time spent on
+ * that recipe's preconditions.
+ */
+public class RecipePerformance extends DataTable<RecipePerformance.Row> {
+    public RecipePerformance(Recipe recipe) {
+        super(recipe,
+                "Recipe performance",
+                "Wall time of each recipe traversal of a source file.");
+    }
+
+    /**
+     * @return A recipe to run instead of the given one, doing the same but also timing its scanners and visitors,
+     * and those of all recipes in its recipe list, on each source file.
+     */
+    public static Recipe measure(Recipe recipe) {
+        return new MeasuredRecipe(recipe, null);
+    }
+
+    private static Recipe measure(Recipe recipe, RecipePerformance table) {
+        return recipe instanceof ScanningRecipe ?
+                measureScanning((ScanningRecipe<?>) recipe, table) :
+                new MeasuredRecipe(recipe, table);
+    }
+
+    private static <T> Recipe measureScanning(ScanningRecipe<T> recipe, RecipePerformance table) {
+        return new MeasuredScanningRecipe<>(recipe, table);
+    }
+
+    private static List<Recipe> measure(List<Recipe> recipes, RecipePerformance table) {
+        List<Recipe> measured = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            measured.add(measure(recipe, table));
+        }
+        return measured;
+    }
+
+    private static TreeVisitor<?, ExecutionContext> measure(Recipe recipe, TreeVisitor<?, ExecutionContext> visitor,
+                                                            RecipePerformance table, Phase phase) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return visitor.isAcceptable(sourceFile, ctx);
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return visitor.visit(tree, ctx);
+                }
+                long start = System.nanoTime();
+                Tree after = visitor.visit(tree, ctx);
+                insertRow(tree, after, ctx, start);
+                return after;
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx, Cursor parent) {
+                if (!(tree instanceof SourceFile)) {
+                    return visitor.visit(tree, ctx, parent);
+                }
+                long start = System.nanoTime();
+                Tree after = visitor.visit(tree, ctx, parent);
+                insertRow(tree, after, ctx, start);
+                return after;
+            }
+
+            private void insertRow(Tree before, @Nullable Tree after, ExecutionContext ctx, long start) {
+                table.insertRow(ctx, new Row(
+                        recipe.getName(),
+                        recipe.getInstanceName(),
+                        ((SourceFile) before).getSourcePath().toString(),
+                        ctx.getCycle(),
+                        phase,
+                        System.nanoTime() - start,
+                        after != before
+                ));
+            }
+        };
+    }
+
+    private static class MeasuredRecipe extends Recipe {
+        private final Recipe recipe;
+        private final RecipePerformance table;
+
+        // Created once, so that scanning recipes in the recipe list keep their accumulator across phases
+        private transient @Nullable List<Recipe> recipeList;
+
+        MeasuredRecipe(Recipe recipe, @Nullable RecipePerformance table) {
+            this.recipe = recipe;
+            this.table = table == null ? new RecipePerformance(this) : table;
+        }
+
+        @Override
+        public String getName() {
+            return recipe.getName();
+        }
+
+        @Override
+        public String getInstanceName() {
+            return recipe.getInstanceName();
+        }
+
+        @Override
+        public String getDisplayName() {
+            return recipe.getDisplayName();
+        }
+
+        @Override
+        public String getDescription() {
+            return recipe.getDescription();
+        }
+
+        @Override
+        public int maxCycles() {
+            return recipe.maxCycles();
+        }
+
+        @Override
+        public boolean causesAnotherCycle() {
+            return recipe.causesAnotherCycle();
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor() {
+            return measure(recipe, recipe.getVisitor(), table, Phase.Edit);
+        }
+
+        @Override
+        public synchronized List<Recipe> getRecipeList() {
+            if (recipeList == null) {
+                recipeList = measure(recipe.getRecipeList(), table);
+            }
+            return recipeList;
+        }
+    }
+
+    private static class MeasuredScanningRecipe<T> extends ScanningRecipe<T> {
+        private final ScanningRecipe<T> recipe;
+        private final RecipePerformance table;
+        private transient @Nullable List<Recipe> recipeList;
+
+        MeasuredScanningRecipe(ScanningRecipe<T> recipe, RecipePerformance table) {
+            this.recipe = recipe;
+            this.table = table;
+        }
+
+        @Override
+        public String getName() {
+            return recipe.getName();
+        }
+
+        @Override
+        public String getInstanceName() {
+            return recipe.getInstanceName();
+        }
+
+        @Override
+        public String getDisplayName() {
+            return recipe.getDisplayName();
+        }
+
+        @Override
+        public String getDescription() {
+            return recipe.getDescription();
+        }
+
+        @Override
+        public int maxCycles() {
+            return recipe.maxCycles();
+        }
+
+        @Override
+        public boolean causesAnotherCycle() {
+            return recipe.causesAnotherCycle();
+        }
+
+        @Override
+        public T getInitialValue(ExecutionContext ctx) {
+            return recipe.getInitialValue(ctx);
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getScanner(T acc) {
+            return measure(recipe, recipe.getScanner(acc), table, Phase.Scan);
+        }
+
+        @Override
+        public Collection<? extends SourceFile> generate(T acc, Collection<SourceFile> generatedInThisCycle, ExecutionContext ctx) {
+            return recipe.generate(acc, generatedInThisCycle, ctx);
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor(T acc) {
+            return measure(recipe, recipe.getVisitor(acc), table, Phase.Edit);
+        }
+
+        @Override
+        public synchronized List<Recipe> getRecipeList() {
+            if (recipeList == null) {
+                recipeList = measure(recipe.getRecipeList(), table);
+            }
+            return recipeList;
+        }
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Recipe name",
+                description = "The fully qualified name of the recipe.")
+        String recipeName;
+
+        @Column(displayName = "Recipe instance name",
+                description = "The name of the recipe including its options.")
+        String recipeInstanceName;
+
+        @Column(displayName = "Source path",
+                description = "The source file that was visited.")
+        String sourcePath;
+
+        @Column(displayName = "Cycle",
+                description = "The recipe run cycle in which the source file was visited.")
+        int cycle;
+
+        @Column(displayName = "Phase",
+                description = "Whether the source file was visited by the recipe's scanner or by its visitor.")
+        Phase phase;
+
+        @Column(displayName = "Wall time (ns)",
+                description = "The time spent visiting the source file, including the recipe's preconditions.")
+        long wallTimeNanos;
+
+        @Column(displayName = "Changed",
+                description = "Whether the visit changed the source file.")
+        boolean changed;
+    }
+
+    public enum Phase {
+        Scan,
+        Edit
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.search;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class TestImpactTable extends DataTable<TestImpactTable.Row> {
+    public TestImpactTable(Recipe recipe) {
+        super(recipe,
+                "Test impact index",
+                "The unit tests that invoke each production method, sorted by production method.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Production method",
+                description = "The invoked method as a method pattern, i.e. `com.example.Foo bar(int)`.")
+        String productionMethod;
+
+        @Column(displayName = "Test class",
+                description = "The fully qualified name of the class declaring the unit test.")
+        String testClass;
+
+        @Column(displayName = "Test method",
+                description = "The name of the unit test that invokes the production method.")
+        String testMethod;
+    }
+}
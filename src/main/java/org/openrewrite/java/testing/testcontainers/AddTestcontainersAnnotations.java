@@ -21,10 +21,10 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.service.AnnotationService;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
 
@@ -55,8 +55,8 @@ public class AddTestcontainersAnnotations extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         TreeVisitor<?, ExecutionContext> usesRule = Preconditions.or(
-                new UsesType<>(RULE_FQN, true),
-                new UsesType<>(CLASS_RULE_FQN, true)
+                UsesIndex.usesType(RULE_FQN, true),
+                UsesIndex.usesType(CLASS_RULE_FQN, true)
         );
         return Preconditions.check(usesRule, new JavaIsoVisitor<ExecutionContext>() {
             @Override
@@ -77,7 +77,7 @@ public class AddTestcontainersAnnotations extends Recipe {
                 maybeAddImport(TESTCONTAINERS_FQN);
                 return JavaTemplate.builder("@Testcontainers")
                         .imports(TESTCONTAINERS_FQN)
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "testcontainers-1", "junit-jupiter-1"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "testcontainers-1", "junit-jupiter-1"))
                         .build()
                         .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
             }
@@ -104,7 +104,7 @@ public class AddTestcontainersAnnotations extends Recipe {
                 maybeAddImport(CONTAINER_FQN);
                 return JavaTemplate.builder("@Container")
                         .imports(CONTAINER_FQN)
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "testcontainers-1", "junit-jupiter-1"))
+                        .javaParser(JavaParserRegistry.fromResources(ctx, "testcontainers-1", "junit-jupiter-1"))
                         .build()
                         .apply(updateCursor(vd), vd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
             }
@@ -19,10 +19,10 @@ import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -62,7 +62,7 @@ public class ExplicitContainerImage extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         final MethodMatcher methodMatcher = new MethodMatcher(containerClass + " <constructor>()");
-        return Preconditions.check(new UsesMethod<>(methodMatcher), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(UsesIndex.usesMethod(methodMatcher), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                 J.NewClass nc = super.visitNewClass(newClass, ctx);
@@ -81,7 +81,7 @@ public class ExplicitContainerImage extends Recipe {
                     maybeAddImport("org.testcontainers.utility.DockerImageName");
                     return JavaTemplate.builder("DockerImageName.parse(\"" + image + "\")")
                             .imports("org.testcontainers.utility.DockerImageName")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "testcontainers-1"))
+                            .javaParser(JavaParserRegistry.fromResources(ctx, "testcontainers-1"))
                             .build()
                             .apply(getCursor(), newClass.getCoordinates().replace())
                             .withPrefix(Space.EMPTY);
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.testcontainers;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.testing.internal.DeclarativeRules;
+import org.openrewrite.java.testing.internal.UsesIndex;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies the {@link ChangeType} steps of the {@value #RULES} recipe, keyed by their old fully qualified type name.
+ * The types used and imported by each source file are looked up in that map once, after which only the type
+ * changes for container classes the source file actually refers to are run.
+ */
+public class Testcontainers2ContainerClassesSinglePass extends Recipe {
+
+    static final String RULES = "org.openrewrite.java.testing.testcontainers.Testcontainers2ContainerClasses";
+
+    private static volatile @Nullable Map<String, ChangeType> typeChangesByOldType;
+
+    @Override
+    public String getDisplayName() {
+        return "Testcontainers 2 container classes in a single pass";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Change Testcontainers container classes to their new package locations in Testcontainers 2.x. " +
+               "Applies the same steps as `" + RULES + "`, only running those for container classes a source file refers to.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        Map<String, ChangeType> typeChanges = getTypeChangesByOldType();
+        // Also matches the names of container class imports that do not resolve against the classpath
+        return Preconditions.check(
+                UsesIndex.usesType("org.testcontainers.containers..*", false),
+                new TreeVisitor<Tree, ExecutionContext>() {
+                    @Override
+                    public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                        return sourceFile instanceof JavaSourceFile;
+                    }
+
+                    @Override
+                    public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                        if (!(tree instanceof JavaSourceFile)) {
+                            return tree;
+                        }
+                        Tree t = tree;
+                        for (ChangeType changeType : typeChangesInUse((JavaSourceFile) tree, typeChanges)) {
+                            t = changeType.getVisitor().visit(t, ctx);
+                        }
+                        return t;
+                    }
+                });
+    }
+
+    private static Set<ChangeType> typeChangesInUse(JavaSourceFile sourceFile, Map<String, ChangeType> typeChanges) {
+        Set<ChangeType> inUse = new LinkedHashSet<>();
+        for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq != null) {
+                addTypeChange(fq.getFullyQualifiedName(), typeChanges, inUse);
+            }
+        }
+        // Imports of container classes missing from the classpath do not show up in the types in use
+        for (J.Import anImport : sourceFile.getImports()) {
+            addTypeChange(anImport.getTypeName(), typeChanges, inUse);
+        }
+        return inUse;
+    }
+
+    /**
+     * Look up the type change for a type, or for the container class it is nested in.
+     */
+    private static void addTypeChange(String fullyQualifiedName, Map<String, ChangeType> typeChanges, Set<ChangeType> inUse) {
+        String name = fullyQualifiedName;
+        while (name.startsWith("org.testcontainers.")) {
+            ChangeType changeType = typeChanges.get(name);
+            if (changeType != null) {
+                inUse.add(changeType);
+                return;
+            }
+            int nested = Math.max(name.lastIndexOf('$'), name.lastIndexOf('.'));
+            name = name.substring(0, nested);
+        }
+    }
+
+    static Map<String, ChangeType> getTypeChangesByOldType() {
+        Map<String, ChangeType> typeChanges = typeChangesByOldType;
+        if (typeChanges == null) {
+            synchronized (Testcontainers2ContainerClassesSinglePass.class) {
+                typeChanges = typeChangesByOldType;
+                if (typeChanges == null) {
+                    typeChanges = new LinkedHashMap<>();
+                    for (ChangeType changeType : DeclarativeRules.load(
+                            ChangeType.class, "/META-INF/rewrite/testcontainers.yml", RULES)) {
+                        typeChanges.put(changeType.getOldFullyQualifiedTypeName(), changeType);
+                    }
+                    typeChangesByOldType = typeChanges;
+                }
+            }
+        }
+        return typeChanges;
+    }
+}
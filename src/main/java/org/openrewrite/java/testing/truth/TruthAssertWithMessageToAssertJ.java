@@ -20,10 +20,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
@@ -48,7 +48,7 @@ public class TruthAssertWithMessageToAssertJ extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(ASSERT_WITH_MESSAGE), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(UsesIndex.usesMethod(ASSERT_WITH_MESSAGE), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
@@ -73,7 +73,7 @@ public class TruthAssertWithMessageToAssertJ extends Recipe {
                                 Expression message = messageArgs.get(0);
                                 return JavaTemplate.builder("assertThat(#{any()}).as(#{any()})")
                                         .staticImports("org.assertj.core.api.Assertions.assertThat")
-                                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                        .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                                         .build()
                                         .apply(getCursor(), mi.getCoordinates().replace(), actual, message);
                             }
@@ -87,7 +87,7 @@ public class TruthAssertWithMessageToAssertJ extends Recipe {
                                 String anyAny = String.join(", ", nCopies(messageArgs.size(), "#{any()}"));
                                 return JavaTemplate.builder("assertThat(#{any()}).as(String.format(" + anyAny + "))")
                                         .staticImports("org.assertj.core.api.Assertions.assertThat")
-                                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                        .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                                         .build()
                                         .apply(getCursor(), mi.getCoordinates().replace(), formatArgs);
                             }
@@ -20,10 +20,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.testing.internal.JavaParserRegistry;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.java.tree.J;
 
 public class TruthThrowableAssertions extends Recipe {
@@ -48,7 +48,7 @@ public class TruthThrowableAssertions extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                Preconditions.or(new UsesMethod<>(HAS_MESSAGE_THAT), new UsesMethod<>(HAS_CAUSE_THAT)),
+                Preconditions.or(UsesIndex.usesMethod(HAS_MESSAGE_THAT), UsesIndex.usesMethod(HAS_CAUSE_THAT)),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -69,7 +69,7 @@ public class TruthThrowableAssertions extends Recipe {
                             maybeRemoveImport("com.google.common.truth.Truth.assertThat");
                             maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
                             return JavaTemplate.builder("assertThat(#{any()}).hasMessageContaining(#{any()})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                    .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                                     .staticImports("org.assertj.core.api.Assertions.assertThat")
                                     .build()
                                     .apply(getCursor(),
@@ -84,7 +84,7 @@ public class TruthThrowableAssertions extends Recipe {
                             maybeRemoveImport("com.google.common.truth.Truth.assertThat");
                             maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
                             return JavaTemplate.builder("assertThat(#{any()}).hasMessage(#{any()})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                    .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                                     .staticImports("org.assertj.core.api.Assertions.assertThat")
                                     .build()
                                     .apply(getCursor(),
@@ -99,7 +99,7 @@ public class TruthThrowableAssertions extends Recipe {
                             maybeRemoveImport("com.google.common.truth.Truth.assertThat");
                             maybeAddImport("org.assertj.core.api.Assertions", "assertThat");
                             return JavaTemplate.builder("assertThat(#{any()}).hasCauseInstanceOf(#{any()})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "assertj-core-3"))
+                                    .javaParser(JavaParserRegistry.fromResources(ctx, "assertj-core-3"))
                                     .staticImports("org.assertj.core.api.Assertions.assertThat")
                                     .build()
                                     .apply(getCursor(),
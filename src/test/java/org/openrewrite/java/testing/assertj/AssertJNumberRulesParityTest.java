@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Result;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.CompositeRecipe;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * {@link AssertJNumberRulesSinglePass} replaces the recipes generated from the Refaster rule classes of each number
+ * type in the AssertJ best practices, so it has to keep making the same changes as those recipes.
+ */
+class AssertJNumberRulesParityTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+      //language=java
+      """
+        import java.math.BigInteger;
+
+        import static org.assertj.core.api.Assertions.assertThat;
+        import static org.assertj.core.data.Offset.offset;
+        import static org.assertj.core.data.Percentage.withPercentage;
+
+        class A {
+            void test(BigInteger i, BigInteger expected) {
+                assertThat(i).isCloseTo(expected, offset(BigInteger.ZERO));
+                assertThat(i).isCloseTo(expected, withPercentage(0));
+                assertThat(i).isNotCloseTo(expected, offset(BigInteger.ZERO));
+                assertThat(i).isNotCloseTo(expected, withPercentage(0));
+                assertThat(i).isEqualTo(BigInteger.ZERO);
+                assertThat(i).isNotEqualTo(BigInteger.ZERO);
+                assertThat(i).isEqualTo(BigInteger.ONE);
+                assertThat(i).isCloseTo(expected, offset(BigInteger.TEN));
+                assertThat(i).isEqualTo(expected);
+            }
+        }
+        """,
+      //language=java
+      """
+        import static org.assertj.core.api.Assertions.assertThat;
+        import static org.assertj.core.data.Offset.offset;
+        import static org.assertj.core.data.Percentage.withPercentage;
+
+        class A {
+            void test(byte b, byte expected) {
+                assertThat(b).isCloseTo(expected, offset((byte) 0));
+                assertThat(b).isCloseTo(expected, withPercentage(0));
+                assertThat(b).isNotCloseTo(expected, offset((byte) 0));
+                assertThat(b).isNotCloseTo(expected, withPercentage(0));
+                assertThat(b).isEqualTo((byte) 0);
+                assertThat(b).isNotEqualTo((byte) 0);
+                assertThat(b).isEqualTo((byte) 1);
+                assertThat(b).isCloseTo(expected, offset((byte) 1));
+                assertThat(b).isEqualTo(expected);
+            }
+        }
+        """,
+      //language=java
+      """
+        import static org.assertj.core.api.Assertions.assertThat;
+        import static org.assertj.core.data.Offset.offset;
+        import static org.assertj.core.data.Percentage.withPercentage;
+
+        class A {
+            void test(double d, double expected) {
+                assertThat(d).isEqualTo(expected, offset(0.1));
+                assertThat(d).isEqualTo(expected, offset(0.0));
+                assertThat(d).isCloseTo(expected, offset(0d));
+                assertThat(d).isCloseTo(expected, withPercentage(0));
+                assertThat(d).isCloseTo(expected, withPercentage(0.0));
+                assertThat(d).isNotCloseTo(expected, offset(0.0));
+                assertThat(d).isNotCloseTo(expected, withPercentage(0d));
+                assertThat(d).isEqualTo(0);
+                assertThat(d).isEqualTo(0.0);
+                assertThat(d).isNotEqualTo(0d);
+                assertThat(d).isEqualTo(1);
+                assertThat(d).isEqualTo(1.0);
+                assertThat(d).isCloseTo(expected, withPercentage(1.5));
+            }
+        }
+        """,
+      //language=java
+      """
+        import static org.assertj.core.api.Assertions.assertThat;
+        import static org.assertj.core.data.Offset.offset;
+        import static org.assertj.core.data.Percentage.withPercentage;
+
+        class A {
+            void test(float f, float expected) {
+                assertThat(f).isEqualTo(expected, offset(0.1f));
+                assertThat(f).isEqualTo(expected, offset(0f));
+                assertThat(f).isCloseTo(expected, offset(0.0f));
+                assertThat(f).isCloseTo(expected, withPercentage(0));
+                assertThat(f).isNotCloseTo(expected, offset(0f));
+                assertThat(f).isNotCloseTo(expected, withPercentage(0.0));
+                assertThat(f).isEqualTo(0);
+                assertThat(f).isEqualTo(0f);
+                assertThat(f).isNotEqualTo(0.0f);
+                assertThat(f).isEqualTo(1);
+                assertThat(f).isEqualTo(1f);
+                assertThat(f).isCloseTo(expected, offset(1f));
+            }
+        }
+        """,
+      //language=java
+      """
+        import static org.assertj.core.api.Assertions.assertThat;
+        import static org.assertj.core.data.Offset.offset;
+        import static org.assertj.core.data.Percentage.withPercentage;
+
+        class A {
+            void test(int i, int expected, long l, long expectedLong, short s, short expectedShort) {
+                assertThat(i).isCloseTo(expected, offset(0));
+                assertThat(i).isNotCloseTo(expected, withPercentage(0));
+                assertThat(i).isEqualTo(0);
+                assertThat(i).isNotEqualTo(0);
+                assertThat(i).isEqualTo(1);
+                assertThat(i).isCloseTo(expected, offset(1));
+                assertThat(l).isCloseTo(expectedLong, offset(0L));
+                assertThat(l).isNotCloseTo(expectedLong, withPercentage(0));
+                assertThat(l).isEqualTo(0);
+                assertThat(l).isNotEqualTo(0);
+                assertThat(l).isEqualTo(1);
+                assertThat(l).isEqualTo(1L);
+                assertThat(s).isCloseTo(expectedShort, offset((short) 0));
+                assertThat(s).isNotCloseTo(expectedShort, withPercentage(0));
+                assertThat(s).isEqualTo((short) 0);
+                assertThat(s).isNotEqualTo((short) 0);
+                assertThat(s).isEqualTo((short) 1);
+                assertThat(s).isEqualTo(expectedShort);
+            }
+        }
+        """
+    })
+    void sameChangesAsRefasterRules(String source) {
+        Recipe refasterRules = new CompositeRecipe(List.of(
+          new AssertJBigIntegerRulesRecipes(),
+          new AssertJByteRulesRecipes(),
+          new AssertJDoubleRulesRecipes(),
+          new AssertJFloatRulesRecipes(),
+          new AssertJIntegerRulesRecipes(),
+          new AssertJLongRulesRecipes(),
+          new AssertJShortRulesRecipes()));
+        String expected = run(refasterRules, source);
+        assertThat(expected).as("The input should exercise the rules").isNotEqualTo(source);
+        assertThat(run(new AssertJNumberRulesSinglePass(), source)).isEqualTo(expected);
+    }
+
+    private static String run(Recipe recipe, String source) {
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> fail("Failed to run " + recipe.getName(), t));
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion()
+          .classpath(JavaParser.runtimeClasspath())
+          .build()
+          .parse(ctx, source)
+          .collect(toList());
+        List<Result> results = recipe.run(new InMemoryLargeSourceSet(sourceFiles), ctx).getChangeset().getAllResults();
+        return results.isEmpty() ? source : results.get(0).getAfter().printAll();
+    }
+}
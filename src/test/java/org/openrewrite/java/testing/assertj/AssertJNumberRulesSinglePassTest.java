@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class AssertJNumberRulesSinglePassTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new AssertJNumberRulesSinglePass());
+    }
+
+    @DocumentExample
+    @Test
+    void allNumberTypesInOnePass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.math.BigInteger;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+              import static org.assertj.core.data.Offset.offset;
+              import static org.assertj.core.data.Percentage.withPercentage;
+
+              class A {
+                  public void test(int i, long l, short s, byte b, float f, double d, double expected, BigInteger bi) {
+                      assertThat(i).isEqualTo(0);
+                      assertThat(l).isCloseTo(2L, offset(0L));
+                      assertThat(s).isEqualTo((short) 1);
+                      assertThat(b).isNotEqualTo((byte) 0);
+                      assertThat(f).isNotCloseTo(1f, withPercentage(0.0));
+                      assertThat(d).isEqualTo(expected, offset(0.0));
+                      assertThat(bi).isNotEqualTo(BigInteger.ZERO);
+                  }
+              }
+              """,
+            """
+              import java.math.BigInteger;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class A {
+                  public void test(int i, long l, short s, byte b, float f, double d, double expected, BigInteger bi) {
+                      assertThat(i).isZero();
+                      assertThat(l).isEqualTo(2L);
+                      assertThat(s).isOne();
+                      assertThat(b).isNotZero();
+                      assertThat(f).isNotEqualTo(1f);
+                      assertThat(d).isEqualTo(expected);
+                      assertThat(bi).isNotZero();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void onlyTheArgumentsOfTheRules() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import static org.assertj.core.api.Assertions.assertThat;
+              import static org.assertj.core.data.Offset.offset;
+
+              class A {
+                  public void test(int i, long l, short s, double d, double expected) {
+                      assertThat(i).isEqualTo(2);
+                      assertThat(l).isCloseTo(2L, offset(1L));
+                      assertThat(s).isEqualTo(s);
+                      assertThat(d).isCloseTo(expected, offset(0.1));
+                  }
+              }
+              """
+          )
+        );
+    }
+}
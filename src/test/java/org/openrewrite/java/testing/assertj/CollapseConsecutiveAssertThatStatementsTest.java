@@ -414,6 +414,49 @@ class CollapseConsecutiveAssertThatStatementsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void collapseInterleavedAssertThatWithoutSideEffects() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import java.util.List;
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class MyTest {
+                  void test(List<String> listA, List<String> listB, int i) {
+                      assertThat(listA).isNotNull();
+                      assertThat(listB).isNotNull();
+                      assertThat(listA).hasSize(3);
+                      assertThat(listB).hasSize(i);
+                      assertThat(listA).contains("a");
+                      assertThat(listB).hasSize(i++);
+                      assertThat(listA).contains("b");
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class MyTest {
+                  void test(List<String> listA, List<String> listB, int i) {
+                      assertThat(listA)
+                              .isNotNull()
+                              .hasSize(3)
+                              .contains("a");
+                      assertThat(listB)
+                              .isNotNull()
+                              .hasSize(i);
+                      assertThat(listB).hasSize(i++);
+                      assertThat(listA).contains("b");
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void preserveCommentsWhenCollapsingAssertions() {
         //language=java
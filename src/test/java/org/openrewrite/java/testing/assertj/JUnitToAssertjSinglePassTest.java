@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+@SuppressWarnings({"ConstantValue", "ObviousNullCheck", "SimplifiableAssertion"})
+class JUnitToAssertjSinglePassTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "junit-jupiter-api-5"))
+          .recipe(new JUnitToAssertjSinglePass());
+    }
+
+    @DocumentExample
+    @Test
+    void allAssertionsInOnePass() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import java.util.List;
+
+              import static org.junit.jupiter.api.Assertions.*;
+
+              class MyTest {
+                  void test(String s, List<String> list, int[] actual, double d) {
+                      assertEquals("a", s);
+                      assertNotEquals(1.0, d, 0.1, "message");
+                      assertArrayEquals(new int[]{1}, actual);
+                      assertTrue(list.isEmpty());
+                      assertFalse(list.isEmpty(), "message");
+                      assertNull(s);
+                      assertNotNull(list, "message");
+                      assertSame(s, list.get(0));
+                      assertInstanceOf(String.class, list.get(0));
+                      assertThrows(IllegalStateException.class, () -> list.get(1));
+                      fail("message");
+                  }
+              }
+              """,
+            """
+              import java.util.List;
+
+              import static org.assertj.core.api.Assertions.*;
+              import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+
+              class MyTest {
+                  void test(String s, List<String> list, int[] actual, double d) {
+                      assertThat(s).isEqualTo("a");
+                      assertThat(d).as("message").isNotCloseTo(1.0, within(0.1));
+                      assertThat(actual).containsExactly(new int[]{1});
+                      assertThat(list.isEmpty()).isTrue();
+                      assertThat(list.isEmpty()).as("message").isFalse();
+                      assertThat(s).isNull();
+                      assertThat(list).as("message").isNotNull();
+                      assertThat(list.get(0)).isSameAs(s);
+                      assertThat(list.get(0)).isInstanceOf(String.class);
+                      assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> list.get(1));
+                      fail("message");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void booleanSupplierAndOtherAssertionsUnchanged() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import java.util.List;
+
+              import static org.junit.jupiter.api.Assertions.assertAll;
+              import static org.junit.jupiter.api.Assertions.assertTrue;
+
+              class MyTest {
+                  void test(List<String> list) {
+                      assertTrue(() -> list.isEmpty());
+                      assertAll(() -> assertTrue(() -> list.isEmpty()));
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.assertj;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every {@link SimplifyChainedAssertJAssertionsTest} case against the single pass recipe.
+ */
+class SimplifyChainedAssertJAssertionsSinglePassTest extends SimplifyChainedAssertJAssertionsTest {
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "assertj-core-3"))
+          .recipe(new SimplifyChainedAssertJAssertionsSinglePass());
+    }
+
+    @Test
+    void rulesReadFromYaml() {
+        assertThat(SimplifyChainedAssertJAssertionsSinglePass.getRulesByAssertion().values().stream()
+          .flatMap(rulesByChainedAssertion -> rulesByChainedAssertion.values().stream())
+          .mapToInt(List::size)
+          .sum())
+          .isEqualTo(62);
+        assertThat(SimplifyChainedAssertJAssertionsSinglePass.getRulesByAssertion().get("isTrue"))
+          .containsKeys("isEmpty", "equals", "startsWith");
+    }
+}
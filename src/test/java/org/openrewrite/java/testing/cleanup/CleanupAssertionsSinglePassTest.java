@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.cleanup;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+@SuppressWarnings({"SimplifiableAssertion", "ConstantConditions", "ObviousNullCheck"})
+class CleanupAssertionsSinglePassTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "junit-jupiter-api-5"))
+          .recipe(new CleanupAssertionsSinglePass())
+          .cycles(1)
+          .expectedCyclesThatMakeChanges(1);
+    }
+
+    @DocumentExample
+    @Test
+    void simplifiedToFixedPointInOneCycle() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import static org.junit.jupiter.api.Assertions.*;
+
+              class ExampleTest {
+                  void test(String s, boolean b, int i) {
+                      assertFalse(!(s == null));
+                      assertEquals(true, !b, "message");
+                      assertNotEquals(false, i == 1);
+                      assertTrue(!!s.equals("a"));
+                  }
+              }
+              """,
+            """
+              import static org.junit.jupiter.api.Assertions.*;
+
+              class ExampleTest {
+                  void test(String s, boolean b, int i) {
+                      assertNull(s);
+                      assertFalse(b, "message");
+                      assertEquals(i, 1);
+                      assertEquals(s, "a");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void literalBooleans() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.junit.jupiter.api.Assertions;
+
+              class ExampleTest {
+                  void test() {
+                      Assertions.assertTrue(true);
+                      Assertions.assertFalse(false, "message");
+                      Assertions.assertTrue(false, "message");
+                      Assertions.assertFalse(true);
+                  }
+              }
+              """,
+            """
+              import org.junit.jupiter.api.Assertions;
+
+              class ExampleTest {
+                  void test() {
+                      Assertions.fail("message");
+                      Assertions.fail();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepAssertionsThatAreNotStatements() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.junit.jupiter.api.function.Executable;
+
+              import static org.junit.jupiter.api.Assertions.assertTrue;
+
+              class ExampleTest {
+                  Executable executable = () -> assertTrue(true);
+              }
+              """
+          )
+        );
+    }
+}
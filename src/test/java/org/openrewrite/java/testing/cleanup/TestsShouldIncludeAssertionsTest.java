@@ -209,6 +209,70 @@ class TestsShouldIncludeAssertionsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void methodInvocationTransitivelyContainsAssert() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import java.util.Set;
+              import org.junit.jupiter.api.Test;
+
+              import static org.junit.Assert.assertTrue;
+
+              public class TestClass {
+                  @Test
+                  public void methodTest() {
+                      verifyHello(Set.of("hello"));
+                  }
+
+                  @Test
+                  public void otherTest() {
+                      Set.of("hello");
+                  }
+
+                  private void verifyHello(Set<String> set) {
+                      testContains(set, "hello");
+                  }
+
+                  private static void testContains(Set<String> set, String word) {
+                      assertTrue(set.contains(word));
+                  }
+              }
+              """,
+            """
+              import java.util.Set;
+              import org.junit.jupiter.api.Test;
+
+              import static org.junit.Assert.assertTrue;
+              import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+              public class TestClass {
+                  @Test
+                  public void methodTest() {
+                      verifyHello(Set.of("hello"));
+                  }
+
+                  @Test
+                  public void otherTest() {
+                      assertDoesNotThrow(() -> {
+                          Set.of("hello");
+                      });
+                  }
+
+                  private void verifyHello(Set<String> set) {
+                      testContains(set, "hello");
+                  }
+
+                  private static void testContains(Set<String> set, String word) {
+                      assertTrue(set.contains(word));
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Issue("https://github.com/openrewrite/rewrite-testing-frameworks/issues/201")
     @SuppressWarnings("CodeBlock2Expr")
     @Test
@@ -401,6 +465,135 @@ class TestsShouldIncludeAssertionsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void assertionInHelperOfOtherSourceFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package org.foo;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              public abstract class BaseIT {
+                  protected void verifyResponse(String response) {
+                      assertThat(response).isNotEmpty();
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package org.foo;
+
+              public class ResponseUtil {
+                  public static void verify(BaseIT test, String response) {
+                      test.verifyResponse(response);
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import org.foo.BaseIT;
+              import org.foo.ResponseUtil;
+              import org.junit.jupiter.api.Test;
+
+              public class ServiceIT extends BaseIT {
+                  @Test
+                  public void inherited() {
+                      verifyResponse("ok");
+                  }
+
+                  @Test
+                  public void util() {
+                      ResponseUtil.verify(this, "ok");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void assertionInAnonymousClass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.junit.jupiter.api.Test;
+
+              import static org.junit.jupiter.api.Assertions.assertTrue;
+
+              public class AaTest {
+                  @Test
+                  public void methodTest() throws Exception {
+                      boolean x = true;
+                      Thread thread = new Thread(new Runnable() {
+                          public void run() {
+                              assertTrue(x);
+                          }
+                      });
+                      thread.start();
+                      thread.join();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void assertionInMethodReference() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.junit.jupiter.api.Assertions;
+              import org.junit.jupiter.api.Test;
+
+              import java.util.List;
+
+              public class AaTest {
+                  @Test
+                  public void methodTest() {
+                      List.of("a", "b").forEach(Assertions::assertNotNull);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void assertionInConstructorOfHelper() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.junit.jupiter.api.Test;
+
+              import static org.junit.jupiter.api.Assertions.assertTrue;
+
+              public class AaTest {
+                  @Test
+                  public void methodTest() {
+                      new Verifier(true);
+                  }
+
+                  static class Verifier {
+                      Verifier(boolean x) {
+                          assertTrue(x);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void ignoreDisabled() {
         //language=java
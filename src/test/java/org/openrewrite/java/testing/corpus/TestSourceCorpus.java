@@ -0,0 +1,402 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.corpus;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates a deterministic corpus of test classes exercising the constructs the recipes in this
+ * module target, to profile recipes at a realistic scale rather than with single snippets.
+ * The same seed always yields the same sources, so corpora of 10k, 100k or 1M lines of code can
+ * be compared between runs.
+ */
+public class TestSourceCorpus {
+
+    /**
+     * The classpath resources needed to type attribute every generated source.
+     */
+    public static final String[] CLASSPATH = {
+            "junit-4",
+            "hamcrest-3",
+            "mockito-core-3.12",
+            "jmockit-1.49",
+            "powermock-core-1",
+            "powermock-api-mockito-1",
+            "powermock-api-support-1",
+            "powermock-module-junit4",
+            "JUnitParams-1.1",
+            "testcontainers-1",
+            "guava",
+            "truth"
+    };
+
+    /**
+     * The kinds of test classes the corpus is made of, each centered around one migration construct.
+     */
+    public enum Construct {
+        EXPECTED_EXCEPTION,
+        TEMPORARY_FOLDER,
+        JUNIT_PARAMS,
+        JMOCKIT_EXPECTATIONS,
+        POWERMOCK,
+        HAMCREST,
+        MOCKITO,
+        TRUTH,
+        TESTCONTAINERS
+    }
+
+    private static final int MAX_TESTS_PER_CLASS = 12;
+
+    private final Random random;
+    private int classCount;
+
+    public TestSourceCorpus(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public static JavaParser.Builder<?, ?> javaParser(ExecutionContext ctx) {
+        return JavaParser.fromJavaVersion().classpathFromResources(ctx, CLASSPATH);
+    }
+
+    /**
+     * @param count The number of test classes to generate.
+     * @return The sources of the generated test classes, cycling through every {@link Construct}.
+     */
+    public List<String> classes(int count) {
+        List<String> sources = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sources.add(nextClass());
+        }
+        return sources;
+    }
+
+    /**
+     * @param linesOfCode The minimum total number of lines across all generated sources.
+     * @return The sources of the generated test classes, cycling through every {@link Construct}.
+     */
+    public List<String> linesOfCode(int linesOfCode) {
+        List<String> sources = new ArrayList<>();
+        int lines = 0;
+        while (lines < linesOfCode) {
+            String source = nextClass();
+            sources.add(source);
+            lines += countLines(source);
+        }
+        return sources;
+    }
+
+    static int countLines(String source) {
+        int lines = 0;
+        for (int i = 0; i < source.length(); i++) {
+            if (source.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private String nextClass() {
+        int index = classCount++;
+        Construct construct = Construct.values()[index % Construct.values().length];
+        String packageName = "com.example.p" + (index / 100);
+        String className = "Generated" + index + "Test";
+        int tests = 1 + random.nextInt(MAX_TESTS_PER_CLASS);
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(packageName).append(";\n\n");
+        switch (construct) {
+            case EXPECTED_EXCEPTION:
+                expectedException(source, className, tests);
+                break;
+            case TEMPORARY_FOLDER:
+                temporaryFolder(source, className, tests);
+                break;
+            case JUNIT_PARAMS:
+                junitParams(source, className, tests);
+                break;
+            case JMOCKIT_EXPECTATIONS:
+                jmockitExpectations(source, className, tests);
+                break;
+            case POWERMOCK:
+                powerMock(source, className, tests);
+                break;
+            case HAMCREST:
+                hamcrest(source, className, tests);
+                break;
+            case MOCKITO:
+                mockito(source, className, tests);
+                break;
+            case TRUTH:
+                truth(source, className, tests);
+                break;
+            case TESTCONTAINERS:
+            default:
+                testcontainers(source, className, tests);
+        }
+        return source.append("}\n").toString();
+    }
+
+    private void expectedException(StringBuilder source, String className, int tests) {
+        source.append("import org.junit.Rule;\n")
+                .append("import org.junit.Test;\n")
+                .append("import org.junit.rules.ExpectedException;\n\n")
+                .append("public class ").append(className).append(" {\n\n")
+                .append("    @Rule\n")
+                .append("    public ExpectedException thrown = ExpectedException.none();\n");
+        for (int t = 0; t < tests; t++) {
+            source.append("\n")
+                    .append("    @Test\n")
+                    .append("    public void throws").append(t).append("() {\n")
+                    .append("        thrown.expect(NumberFormatException.class);\n");
+            if (random.nextBoolean()) {
+                source.append("        thrown.expectMessage(\"").append(word()).append("\");\n");
+            }
+            source.append("        Integer.parseInt(\"").append(word()).append("\");\n")
+                    .append("    }\n");
+        }
+    }
+
+    private void temporaryFolder(StringBuilder source, String className, int tests) {
+        source.append("import org.junit.Rule;\n")
+                .append("import org.junit.Test;\n")
+                .append("import org.junit.rules.TemporaryFolder;\n\n")
+                .append("import java.io.File;\n")
+                .append("import java.io.IOException;\n\n")
+                .append("import static org.junit.Assert.assertTrue;\n\n")
+                .append("public class ").append(className).append(" {\n\n")
+                .append("    @Rule\n")
+                .append("    public TemporaryFolder folder = new TemporaryFolder();\n");
+        for (int t = 0; t < tests; t++) {
+            source.append("\n")
+                    .append("    @Test\n")
+                    .append("    public void writes").append(t).append("() throws IOException {\n");
+            if (random.nextBoolean()) {
+                source.append("        File file = folder.newFile(\"").append(word()).append(".txt\");\n")
+                        .append("        assertTrue(file.exists());\n");
+            } else {
+                source.append("        File dir = folder.newFolder(\"").append(word()).append("\");\n")
+                        .append("        assertTrue(dir.isDirectory());\n");
+            }
+            source.append("    }\n");
+        }
+    }
+
+    private void junitParams(StringBuilder source, String className, int tests) {
+        source.append("import junitparams.JUnitParamsRunner;\n")
+                .append("import junitparams.Parameters;\n")
+                .append("import org.junit.Test;\n")
+                .append("import org.junit.runner.RunWith;\n\n")
+                .append("import static org.junit.Assert.assertEquals;\n\n")
+                .append("@RunWith(JUnitParamsRunner.class)\n")
+                .append("public class ").append(className).append(" {\n");
+        for (int t = 0; t < tests; t++) {
+            int a = random.nextInt(100);
+            int b = random.nextInt(100);
+            source.append("\n")
+                    .append("    @Test\n")
+                    .append("    @Parameters({\"").append(a).append(", ").append(b).append(", ").append(a + b)
+                    .append("\", \"").append(b).append(", ").append(a).append(", ").append(a + b).append("\"})\n")
+                    .append("    public void adds").append(t).append("(int a, int b, int sum) {\n")
+                    .append("        assertEquals(sum, a + b);\n")
+                    .append("    }\n");
+        }
+    }
+
+    private void jmockitExpectations(StringBuilder source, String className, int tests) {
+        source.append("import mockit.Expectations;\n")
+                .append("import mockit.Mocked;\n")
+                .append("import mockit.Verifications;\n")
+                .append("import org.junit.Test;\n\n")
+                .append("import java.util.List;\n\n")
+                .append("import static org.junit.Assert.assertEquals;\n\n")
+                .append("public class ").append(className).append(" {\n\n")
+                .append("    @Mocked\n")
+                .append("    List<String> list;\n");
+        for (int t = 0; t < tests; t++) {
+            int size = random.nextInt(100);
+            source.append("\n")
+                    .append("    @Test\n")
+                    .append("    public void expects").append(t).append("() {\n")
+                    .append("        new Expectations() {{\n")
+                    .append("            list.size();\n")
+                    .append("            result = ").append(size).append(";\n")
+                    .append("        }};\n")
+                    .append("        assertEquals(").append(size).append(", list.size());\n");
+            if (random.nextBoolean()) {
+                source.append("        new Verifications() {{\n")
+                        .append("            list.size();\n")
+                        .append("            times = 1;\n")
+                        .append("        }};\n");
+            }
+            source.append("    }\n");
+        }
+    }
+
+    private void powerMock(StringBuilder source, String className, int tests) {
+        source.append("import org.junit.Test;\n")
+                .append("import org.junit.runner.RunWith;\n")
+                .append("import org.mockito.Mockito;\n")
+                .append("import org.powermock.api.mockito.PowerMockito;\n")
+                .append("import org.powermock.core.classloader.annotations.PrepareForTest;\n")
+                .append("import org.powermock.modules.junit4.PowerMockRunner;\n\n")
+                .append("import java.util.Calendar;\n\n")
+                .append("import static org.junit.Assert.assertEquals;\n\n")
+                .append("@RunWith(PowerMockRunner.class)\n")
+                .append("@PrepareForTest({Calendar.class})\n")
+                .append("public class ").append(className).append(" {\n");
+        for (int t = 0; t < tests; t++) {
+            int year = 1970 + random.nextInt(100);
+            source.append("\n")
+                    .append("    @Test\n")
+                    .append("    public void mocksStatic").append(t).append("() {\n")
+                    .append("        Calendar calendar = Mockito.mock(Calendar.class);\n")
+                    .append("        PowerMockito.mockStatic(Calendar.class);\n")
+                    .append("        Mockito.when(Calendar.getInstance()).thenReturn(calendar);\n")
+                    .append("        Mockito.when(calendar.get(Calendar.YEAR)).thenReturn(").append(year).append(");\n")
+                    .append("        assertEquals(").append(year).append(", Calendar.getInstance().get(Calendar.YEAR));\n")
+                    .append("    }\n");
+        }
+    }
+
+    private void hamcrest(StringBuilder source, String className, int tests) {
+        source.append("import org.junit.Test;\n\n")
+                .append("import java.util.Arrays;\n")
+                .append("import java.util.List;\n\n")
+                .append("import static org.hamcrest.MatcherAssert.assertThat;\n")
+                .append("import static org.hamcrest.Matchers.*;\n\n")
+                .append("public class ").append(className).append(" {\n");
+        for (int t = 0; t < tests; t++) {
+            String a = word();
+            String b = word();
+            source.append("\n")
+                    .append("    @Test\n")
+                    .append("    public void matches").append(t).append("() {\n")
+                    .append("        List<String> list = Arrays.asList(\"").append(a).append("\", \"").append(b).append("\");\n");
+            switch (random.nextInt(4)) {
+                case 0:
+                    source.append("        assertThat(list.get(0), equalTo(\"").append(a).append("\"));\n");
+                    break;
+                case 1:
+                    source.append("        assertThat(list, hasSize(2));\n");
+                    break;
+                case 2:
+                    source.append("        assertThat(list.get(1), containsString(\"").append(b.charAt(0)).append("\"));\n");
+                    break;
+                default:
+                    source.append("        assertThat(\"reason\", list.isEmpty(), is(false));\n");
+            }
+            source.append("        assertThat(list, not(empty()));\n")
+                    .append("    }\n");
+        }
+    }
+
+    private void mockito(StringBuilder source, String className, int tests) {
+        source.append("import org.junit.Test;\n")
+                .append("import org.junit.runner.RunWith;\n")
+                .append("import org.mockito.Mock;\n")
+                .append("import org.mockito.junit.MockitoJUnitRunner;\n\n")
+                .append("import java.util.List;\n\n")
+                .append("import static org.junit.Assert.*;\n")
+                .append("import static org.mockito.Mockito.*;\n\n")
+                .append("@RunWith(MockitoJUnitRunner.class)\n")
+                .append("public class ").append(className).append(" {\n\n")
+                .append("    @Mock\n")
+                .append("    List<String> list;\n");
+        for (int t = 0; t < tests; t++) {
+            int size = random.nextInt(100);
+            source.append("\n")
+                    .append("    @Test\n")
+                    .append("    public void stubs").append(t).append("() {\n")
+                    .append("        when(list.size()).thenReturn(").append(size).append(");\n");
+            switch (random.nextInt(3)) {
+                case 0:
+                    source.append("        assertEquals(").append(size).append(", list.size());\n");
+                    break;
+                case 1:
+                    source.append("        assertTrue(list.size() == ").append(size).append(");\n");
+                    break;
+                default:
+                    source.append("        assertFalse(list.size() != ").append(size).append(");\n");
+            }
+            source.append("        verify(list, times(1)).size();\n")
+                    .append("    }\n");
+        }
+    }
+
+    private void truth(StringBuilder source, String className, int tests) {
+        source.append("import org.junit.Test;\n\n")
+                .append("import java.util.Arrays;\n")
+                .append("import java.util.List;\n\n")
+                .append("import static com.google.common.truth.Truth.assertThat;\n\n")
+                .append("public class ").append(className).append(" {\n");
+        for (int t = 0; t < tests; t++) {
+            String a = word();
+            String b = word();
+            source.append("\n")
+                    .append("    @Test\n")
+                    .append("    public void subjects").append(t).append("() {\n")
+                    .append("        List<String> list = Arrays.asList(\"").append(a).append("\", \"").append(b).append("\");\n");
+            switch (random.nextInt(3)) {
+                case 0:
+                    source.append("        assertThat(list.get(0)).isEqualTo(\"").append(a).append("\");\n");
+                    break;
+                case 1:
+                    source.append("        assertThat(list).containsExactly(\"").append(a).append("\", \"").append(b).append("\");\n");
+                    break;
+                default:
+                    source.append("        assertThat(list).hasSize(2);\n");
+            }
+            source.append("        assertThat(list.isEmpty()).isFalse();\n")
+                    .append("    }\n");
+        }
+    }
+
+    private void testcontainers(StringBuilder source, String className, int tests) {
+        String image = word() + ":" + (1 + random.nextInt(9));
+        source.append("import org.junit.ClassRule;\n")
+                .append("import org.junit.Test;\n")
+                .append("import org.testcontainers.containers.GenericContainer;\n")
+                .append("import org.testcontainers.utility.DockerImageName;\n\n")
+                .append("import static org.junit.Assert.assertTrue;\n\n")
+                .append("public class ").append(className).append(" {\n\n")
+                .append("    @ClassRule\n");
+        if (random.nextBoolean()) {
+            source.append("    public static GenericContainer<?> container = new GenericContainer<>(\"").append(image).append("\")\n");
+        } else {
+            source.append("    public static GenericContainer<?> container = new GenericContainer<>(DockerImageName.parse(\"").append(image).append("\"))\n");
+        }
+        source.append("            .withExposedPorts(").append(1024 + random.nextInt(60000)).append(");\n");
+        for (int t = 0; t < tests; t++) {
+            source.append("\n")
+                    .append("    @Test\n")
+                    .append("    public void runs").append(t).append("() {\n")
+                    .append("        assertTrue(container.isRunning());\n")
+                    .append("    }\n");
+        }
+    }
+
+    private String word() {
+        char[] chars = new char[3 + random.nextInt(6)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
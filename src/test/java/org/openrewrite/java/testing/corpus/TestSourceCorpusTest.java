@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.corpus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.search.FindMissingTypes;
+import org.openrewrite.java.tree.J;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestSourceCorpusTest {
+
+    @Test
+    void sameSeedSameSources() {
+        assertThat(new TestSourceCorpus(42).classes(50))
+          .isEqualTo(new TestSourceCorpus(42).classes(50))
+          .isNotEqualTo(new TestSourceCorpus(7).classes(50));
+    }
+
+    @Test
+    void sizedByLinesOfCode() {
+        List<String> sources = new TestSourceCorpus(42).linesOfCode(10_000);
+        assertThat(sources.stream().mapToInt(TestSourceCorpus::countLines).sum())
+          .isGreaterThanOrEqualTo(10_000);
+    }
+
+    @Test
+    void everyConstructIsTypeAttributed() {
+        int classes = TestSourceCorpus.Construct.values().length * 2;
+        List<String> sources = new TestSourceCorpus(42).classes(classes);
+
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = TestSourceCorpus.javaParser(ctx).build()
+          .parse(ctx, sources.toArray(new String[0]))
+          .collect(toList());
+
+        assertThat(sourceFiles)
+          .hasSize(classes)
+          .allSatisfy(sourceFile -> assertThat(sourceFile).isInstanceOf(J.CompilationUnit.class))
+          .allSatisfy(sourceFile -> assertThat(FindMissingTypes.findMissingTypes((J) sourceFile)).isEmpty());
+    }
+}
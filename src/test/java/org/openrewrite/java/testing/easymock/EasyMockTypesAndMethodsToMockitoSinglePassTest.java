@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.easymock;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.java.ChangeMethodName;
+import org.openrewrite.java.ChangeMethodTargetToStatic;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.ReorderMethodArguments;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class EasyMockTypesAndMethodsToMockitoSinglePassTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "junit-4", "easymock-5"))
+          .recipe(new EasyMockTypesAndMethodsToMockitoSinglePass());
+    }
+
+    @Test
+    void stepsReadFromYaml() {
+        List<Recipe> steps = EasyMockTypesAndMethodsToMockitoSinglePass.getSteps().getSteps();
+        assertThat(steps).hasSize(26);
+        assertThat(steps).filteredOn(ChangeMethodName.class::isInstance).hasSize(15);
+        assertThat(steps).filteredOn(ChangeMethodTargetToStatic.class::isInstance).hasSize(9);
+        // Listed after the `createMock` renames that it depends on
+        assertThat(steps.get(18)).isInstanceOf(ReorderMethodArguments.class);
+    }
+
+    @DocumentExample
+    @Test
+    void remapMethodsAndTypes() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.easymock.EasyMock;
+
+              import static org.easymock.EasyMock.createNiceMock;
+              import static org.easymock.EasyMock.expect;
+
+              class ExampleTest {
+                  void test() {
+                      Dependency dependency = createNiceMock(Dependency.class);
+                      expect(dependency.performAction(EasyMock.lt(3))).andReturn("Mocked Result");
+                  }
+
+                  interface Dependency {
+                      String performAction(int i);
+                  }
+              }
+              """,
+            """
+              import org.mockito.AdditionalMatchers;
+
+              import static org.mockito.Mockito.mock;
+              import static org.mockito.Mockito.when;
+
+              class ExampleTest {
+                  void test() {
+                      Dependency dependency = mock(Dependency.class);
+                      when(dependency.performAction(AdditionalMatchers.lt(3))).thenReturn("Mocked Result");
+                  }
+
+                  interface Dependency {
+                      String performAction(int i);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void renameDeclarationsUnlessIgnored() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              package org.easymock;
+
+              public interface IExpectationSetters<T> {
+                  IExpectationSetters<T> andThrow(Throwable throwable);
+
+                  IExpectationSetters<T> andReturn(T value);
+              }
+              """,
+            """
+              package org.easymock;
+
+              public interface IExpectationSetters<T> {
+                  IExpectationSetters<T> thenThrow(Throwable throwable);
+
+                  IExpectationSetters<T> andReturn(T value);
+              }
+              """
+          )
+        );
+    }
+}
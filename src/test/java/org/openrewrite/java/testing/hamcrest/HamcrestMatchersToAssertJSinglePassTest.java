@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.hamcrest;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class HamcrestMatchersToAssertJSinglePassTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "junit-jupiter-api-5",
+              "hamcrest-3"))
+          .recipe(new HamcrestMatchersToAssertJSinglePass());
+    }
+
+    @Test
+    void rulesReadFromYaml() {
+        assertThat(HamcrestMatchersToAssertJSinglePass.getRulesByMatcher().values().stream()
+          .mapToInt(List::size)
+          .sum())
+          .isEqualTo(57);
+        assertThat(HamcrestMatchersToAssertJSinglePass.getRulesByMatcher().get("lessThan"))
+          .hasSize(3);
+    }
+
+    @DocumentExample
+    @Test
+    void severalMatchersInOnePass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.Date;
+              import java.util.List;
+
+              import static org.hamcrest.MatcherAssert.assertThat;
+              import static org.hamcrest.Matchers.containsString;
+              import static org.hamcrest.Matchers.hasSize;
+              import static org.hamcrest.Matchers.lessThan;
+
+              class ATest {
+                  void test(String s, List<String> list, int i, Date date, Date other) {
+                      assertThat(s, containsString("a"));
+                      assertThat(list, hasSize(2));
+                      assertThat(i, lessThan(3));
+                      assertThat(date, lessThan(other));
+                  }
+              }
+              """,
+            """
+              import java.util.Date;
+              import java.util.List;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class ATest {
+                  void test(String s, List<String> list, int i, Date date, Date other) {
+                      assertThat(s).contains("a");
+                      assertThat(list).hasSize(2);
+                      assertThat(i).isLessThan(3);
+                      assertThat(date).isBefore(other);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssertionClassifierTest {
+
+    private final AssertionClassifier classifier = AssertionClassifier.of(
+      List.of("org.assertj.core.api", "org.junit.Assert", "org.mockito.Mockito.verify"),
+      List.of("org.foo.TestUtil"));
+
+    @Test
+    void declaringTypeStartsWithPackageOrClass() {
+        assertThat(classifier.isAssertion("org.assertj.core.api.Assertions", "assertThat")).isTrue();
+        assertThat(classifier.isAssertion("org.junit.Assert", "assertTrue")).isTrue();
+        assertThat(classifier.isAssertion("org.foo.TestUtil", "testContains")).isTrue();
+    }
+
+    @Test
+    void method() {
+        assertThat(classifier.isAssertion("org.mockito.Mockito", "verify")).isTrue();
+        assertThat(classifier.isAssertion("org.mockito.Mockito", "verifyNoInteractions")).isFalse();
+        assertThat(classifier.isAssertion("org.mockito.Mockito", "when")).isFalse();
+    }
+
+    @Test
+    void notAnAssertion() {
+        assertThat(classifier.isAssertion("org.assertj.core", "api")).isFalse();
+        assertThat(classifier.isAssertion("java.util.List", "of")).isFalse();
+    }
+
+    @Test
+    void compiledOncePerList() {
+        assertThat(AssertionClassifier.of(List.of("org.assertj.core.api")))
+          .isSameAs(AssertionClassifier.of(List.of("org.assertj.core.api"), List.of()));
+    }
+}
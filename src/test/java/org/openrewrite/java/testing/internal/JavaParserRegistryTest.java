@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class JavaParserRegistryTest implements RewriteTest {
+
+    @Test
+    void typeAttributesAgainstResources() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        // The second builder reuses the classpath resolved for the first one
+        JavaParserRegistry.fromResources(ctx, "assertj-core-3");
+        rewriteRun(
+          spec -> spec.parser(JavaParserRegistry.fromResources(ctx, "assertj-core-3")),
+          //language=java
+          java(
+            """
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class A {
+                  void test() {
+                      assertThat(1).isEqualTo(1);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaTemplateCacheTest {
+
+    @Test
+    void sameTemplateIsBuiltOnce() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        assertThat(JavaTemplateCache.builder("assertThat(#{any()}).isTrue()")
+          .classpathFromResources("assertj-core-3")
+          .staticImports("org.assertj.core.api.Assertions.assertThat")
+          .build(ctx))
+          .isSameAs(JavaTemplateCache.builder("assertThat(#{any()}).isTrue()")
+            .classpathFromResources("assertj-core-3")
+            .staticImports("org.assertj.core.api.Assertions.assertThat")
+            .build(new InMemoryExecutionContext()));
+    }
+
+    @Test
+    void differentOptionsAreDifferentTemplates() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        assertThat(JavaTemplateCache.builder("assertThat(#{any()}).isTrue()")
+          .classpathFromResources("assertj-core-3")
+          .build(ctx))
+          .isNotSameAs(JavaTemplateCache.builder("assertThat(#{any()}).isTrue()")
+            .classpathFromResources("assertj-core-3")
+            .contextSensitive()
+            .build(ctx));
+    }
+
+    @Test
+    void rebuiltWhenClasspathIsGone(@TempDir Path tempDir) throws IOException {
+        // Stands in for a jar resolved earlier into a temporary directory that has since been cleaned up
+        Path jar = Files.createFile(tempDir.resolve("apiguardian-api-1.1.2.jar"));
+        JavaParserRegistry.CLASSPATH_BY_ARTIFACTS.put(JavaParserRegistry.key("apiguardian-api-1.1"), singletonList(jar));
+
+        JavaTemplate template = JavaTemplateCache.builder("apiNote(#{any()})")
+          .classpathFromResources("apiguardian-api-1.1")
+          .build(new InMemoryExecutionContext());
+        assertThat(template)
+          .isSameAs(JavaTemplateCache.builder("apiNote(#{any()})")
+            .classpathFromResources("apiguardian-api-1.1")
+            .build(new InMemoryExecutionContext()));
+
+        Files.delete(jar);
+        assertThat(template)
+          .isNotSameAs(JavaTemplateCache.builder("apiNote(#{any()})")
+            .classpathFromResources("apiguardian-api-1.1")
+            .build(new InMemoryExecutionContext()));
+    }
+}
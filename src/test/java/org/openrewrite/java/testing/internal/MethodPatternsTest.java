@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MethodPatternsTest {
+
+    @Test
+    void spaceSeparatedName() {
+        assertThat(MethodPatterns.methodName("org.easymock.IExpectationSetters andThrow(java.lang.Throwable)"))
+          .isEqualTo("andThrow");
+    }
+
+    @Test
+    void hashSeparatedName() {
+        assertThat(MethodPatterns.methodName("com.google.common.truth.Subject#isSameInstanceAs(..)"))
+          .isEqualTo("isSameInstanceAs");
+    }
+
+    @Test
+    void wildcardName() {
+        assertThat(MethodPatterns.methodName("org.assertj.core.api.Assertions assert*(..)")).isNull();
+        assertThat(MethodPatterns.methodName("org.hamcrest..* *(..)")).isNull();
+    }
+}
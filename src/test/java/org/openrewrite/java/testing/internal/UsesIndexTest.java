@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.search.UsesType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UsesIndexTest {
+
+    private final ExecutionContext ctx = new InMemoryExecutionContext();
+
+    //language=java
+    private final SourceFile sourceFile = JavaParser.fromJavaVersion()
+      .classpathFromResources(ctx, "junit-jupiter-api-5")
+      .build()
+      .parse(ctx,
+        """
+          import org.junit.jupiter.api.Test;
+          import java.util.ArrayList;
+
+          import static org.junit.jupiter.api.Assertions.assertEquals;
+
+          class ATest {
+              @Test
+              void test() {
+                  assertEquals(1, new ArrayList<String>().size());
+              }
+          }
+          """)
+      .findFirst()
+      .orElseThrow(IllegalStateException::new);
+
+    @Test
+    void sameAnswersAsUsesType() {
+        for (String type : new String[]{
+          "org.junit.jupiter.api.Test",
+          "org.junit.jupiter.api.Assertions",
+          "org.junit.jupiter..*",
+          "org.junit.*",
+          "java.util.ArrayList",
+          "java.util.List",
+          "java.util.Collection",
+          "org.junit.Test"}) {
+            assertThat(found(UsesIndex.usesType(type, false)))
+              .as(type)
+              .isEqualTo(found(new UsesType<>(type, false)));
+        }
+    }
+
+    @Test
+    void sameAnswersAsUsesMethod() {
+        for (String pattern : new String[]{
+          "org.junit.jupiter.api.Assertions assertEquals(..)",
+          "org.junit.jupiter.api.Assertions assertEquals(int, int)",
+          "org.junit.jupiter.api.Assertions assert*(..)",
+          "org.junit.jupiter.api.Assertions assertTrue(..)",
+          "java.util.List size()",
+          "java.util.ArrayList size()"}) {
+            assertThat(found(UsesIndex.usesMethod(pattern)))
+              .as(pattern)
+              .isEqualTo(found(new UsesMethod<>(pattern)));
+        }
+        assertThat(found(UsesIndex.usesMethod("java.util.List size()", true)))
+          .isEqualTo(found(new UsesMethod<>("java.util.List size()", true)));
+    }
+
+    @Test
+    void usesAnyMethod() {
+        assertThat(found(UsesIndex.usesAnyMethod(
+          new MethodMatcher("org.junit.jupiter.api.Assertions assertTrue(..)"),
+          new MethodMatcher("org.junit.jupiter.api.Assertions assertEquals(..)"))))
+          .isTrue();
+        assertThat(found(UsesIndex.usesAnyMethod(
+          new MethodMatcher("org.junit.jupiter.api.Assertions assertTrue(..)"),
+          new MethodMatcher("org.junit.jupiter.api.Assertions assertFalse(..)"))))
+          .isFalse();
+    }
+
+    @Test
+    void unresolvedImports() {
+        // Neither JUnit 4 nor Testcontainers is on the classpath, so these imports have no type attribution
+        //language=java
+        SourceFile unresolved = JavaParser.fromJavaVersion()
+          .build()
+          .parse(ctx,
+            """
+              import org.junit.Test;
+              import org.testcontainers.containers.PostgreSQLContainer;
+
+              import static org.junit.Assert.assertEquals;
+
+              class ATest {
+                  @Test
+                  public void test() {
+                      assertEquals(1, new PostgreSQLContainer<>().getExposedPorts().size());
+                  }
+              }
+              """)
+          .findFirst()
+          .orElseThrow(IllegalStateException::new);
+        for (String type : new String[]{
+          "org.junit.Test",
+          "org.junit.Assert",
+          "org.testcontainers.containers..*",
+          "org.junit.jupiter.api.Test"}) {
+            assertThat(found(UsesIndex.usesType(type, false), unresolved))
+              .as(type)
+              .isEqualTo(found(new UsesType<>(type, false), unresolved));
+        }
+        assertThat(found(UsesIndex.usesType("org.testcontainers.containers..*", false), unresolved)).isTrue();
+    }
+
+    private boolean found(TreeVisitor<?, ExecutionContext> precondition) {
+        return found(precondition, sourceFile);
+    }
+
+    private boolean found(TreeVisitor<?, ExecutionContext> precondition, SourceFile sourceFile) {
+        return precondition.visit(sourceFile, ctx) != sourceFile;
+    }
+}
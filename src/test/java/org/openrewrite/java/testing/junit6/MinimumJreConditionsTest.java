@@ -21,11 +21,16 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
 import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.testing.internal.UsesIndex;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class MinimumJreConditionsTest implements RewriteTest {
@@ -1149,4 +1154,90 @@ class MinimumJreConditionsTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void conditionsWrittenFullyQualified() {
+        rewriteRun(
+          java(
+            """
+              class MyTest {
+                  @org.junit.jupiter.api.Test
+                  @org.junit.jupiter.api.condition.EnabledOnJre(org.junit.jupiter.api.condition.JRE.JAVA_8)
+                  void testOnJava8() {
+                      System.out.println("Java 8");
+                  }
+
+                  @org.junit.jupiter.api.Test
+                  @org.junit.jupiter.api.condition.DisabledOnJre(org.junit.jupiter.api.condition.JRE.JAVA_11)
+                  void testNotOnJava11() {
+                      System.out.println("Not Java 11");
+                  }
+              }
+              """,
+            """
+              class MyTest {
+
+                  @org.junit.jupiter.api.Test
+                  void testNotOnJava11() {
+                      System.out.println("Not Java 11");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void unresolvedConditionAnnotations() {
+        //language=java
+        String source = """
+          import org.junit.jupiter.api.Test;
+          import org.junit.jupiter.api.condition.EnabledOnJre;
+          import org.junit.jupiter.api.condition.JRE;
+
+          class MyTest {
+              @Test
+              @EnabledOnJre(JRE.JAVA_8)
+              void testOnJava8() {
+                  System.out.println("Java 8");
+              }
+          }
+          """;
+        // The file is visited, as the imports name the conditions, but without their types the annotations are left alone
+        assertThat(usesConditions(JavaParser.fromJavaVersion(), source)).isTrue();
+        rewriteRun(
+          spec -> spec
+            .parser(JavaParser.fromJavaVersion())
+            .typeValidationOptions(TypeValidation.none()),
+          java(source)
+        );
+    }
+
+    @Test
+    void noConditionAnnotations() {
+        //language=java
+        String source = """
+          import org.junit.jupiter.api.Disabled;
+          import org.junit.jupiter.api.Test;
+
+          class MyTest {
+              @Test
+              @Disabled
+              void disabledTest() {
+                  System.out.println("Disabled");
+              }
+          }
+          """;
+        assertThat(usesConditions(JavaParser.fromJavaVersion()
+          .classpathFromResources(new InMemoryExecutionContext(), "junit-jupiter-api"), source)).isFalse();
+        rewriteRun(
+          java(source)
+        );
+    }
+
+    private static boolean usesConditions(JavaParser.Builder<?, ?> parser, String source) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        SourceFile sourceFile = parser.build().parse(ctx, source).findFirst().orElseThrow(IllegalStateException::new);
+        return UsesIndex.usesType("org.junit.jupiter.api.condition.*", false).visit(sourceFile, ctx) != sourceFile;
+    }
 }
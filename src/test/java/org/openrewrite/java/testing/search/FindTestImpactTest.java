@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+
+class FindTestImpactTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindTestImpact())
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "junit-jupiter-api-5"));
+    }
+
+    @DocumentExample
+    @Test
+    void sortedByProductionMethod() {
+        rewriteRun(
+          spec -> spec.dataTable(TestImpactTable.Row.class, rows -> assertThat(rows)
+            .extracting(TestImpactTable.Row::getProductionMethod, TestImpactTable.Row::getTestClass, TestImpactTable.Row::getTestMethod)
+            .containsExactly(
+              tuple("foo.Foo bar()", "FooTest", "first"),
+              tuple("foo.Foo bar()", "FooTest", "second"),
+              tuple("foo.Foo bar(int)", "FooTest", "second"))),
+          //language=java
+          java(
+            """
+              package foo;
+
+              public class Foo {
+                  public void baz() {
+                  }
+                  public void bar(int times) {
+                  }
+                  public void bar() {
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import foo.Foo;
+              import org.junit.jupiter.api.Test;
+
+              public class FooTest {
+                 @Test
+                 public void second() {
+                     Foo foo = new Foo();
+                     foo.bar(2);
+                     foo.bar();
+                     foo.bar();
+                 }
+
+                 @Test
+                 public void first() {
+                     new Foo().bar();
+                 }
+              }
+              """
+          )
+        );
+    }
+}
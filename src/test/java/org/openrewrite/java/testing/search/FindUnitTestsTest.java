@@ -24,7 +24,11 @@ import org.openrewrite.java.JavaParser;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.openrewrite.java.Assertions.java;
 
 class FindUnitTestsTest implements RewriteTest {
@@ -75,6 +79,170 @@ class FindUnitTestsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void usagesInSeveralTests() {
+        rewriteRun(
+          spec -> spec.dataTable(FindUnitTestTable.Row.class, rows -> assertThat(rows)
+            .extracting(FindUnitTestTable.Row::getFullyQualifiedMethodName, FindUnitTestTable.Row::getLocationOfTest)
+            .containsExactlyInAnyOrder(
+              tuple("bar", "first"),
+              tuple("bar", "second"),
+              tuple("baz", "second"))),
+          java(CLASS_FOO),
+          //language=java
+          java(
+            """
+              import foo.Foo;
+              import org.junit.jupiter.api.Test;
+
+              public class FooTest {
+                 @Test
+                 public void first() {
+                     new Foo().bar();
+                 }
+
+                 @Test
+                 public void second() {
+                     Foo foo = new Foo();
+                     foo.bar();
+                     foo.baz();
+                 }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void boundedAccumulator() {
+        FindUnitTests.Accumulator acc = new FindUnitTests.Accumulator(1);
+        List<Throwable> errors = new ArrayList<>();
+        rewriteRun(
+          spec -> spec.recipe(new FindUnitTests(acc))
+            .executionContext(new InMemoryExecutionContext(errors::add))
+            .dataTable(FindUnitTestTable.Row.class, rows -> assertThat(rows)
+              .extracting(FindUnitTestTable.Row::getMethodInvocationExample)
+              .containsExactly("foo.bar()")),
+          java(CLASS_FOO),
+          //language=java
+          java(
+            """
+              import foo.Foo;
+              import org.junit.jupiter.api.Test;
+
+              public class FooTest {
+                 @Test
+                 public void test() {
+                     Foo foo = new Foo();
+                     foo.bar();
+                     foo.baz();
+                 }
+              }
+              """
+          )
+        );
+        assertThat(acc.isTruncated()).isTrue();
+        assertThat(errors)
+          .singleElement()
+          .extracting(Throwable::getMessage)
+          .isEqualTo("Only the first 1 method invocations in unit tests were recorded, " +
+                     "so the unit tests found for methods are incomplete.");
+    }
+
+    @Test
+    void matchOnSignature() {
+        rewriteRun(
+          spec -> spec.recipe(FindUnitTests.matchingOnSignature())
+            .dataTable(FindUnitTestTable.Row.class, rows -> assertThat(rows)
+              .singleElement()
+              .extracting(FindUnitTestTable.Row::getMethodInvocationExample)
+              .isEqualTo("foo.bar()")),
+          //language=java
+          java(
+            """
+              package foo;
+
+              public class Foo {
+                  public void bar() {
+                  }
+                  public void bar(int times) {
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package foo;
+
+              public class Other {
+                  public void bar() {
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import foo.Foo;
+              import org.junit.jupiter.api.Test;
+
+              public class FooTest {
+                 @Test
+                 public void test() {
+                     Foo foo = new Foo();
+                     foo.bar();
+                 }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void matchOnSignatureOfGenericMethods() {
+        rewriteRun(
+          spec -> spec.recipe(FindUnitTests.matchingOnSignature())
+            .dataTable(FindUnitTestTable.Row.class, rows -> assertThat(rows)
+              .extracting(FindUnitTestTable.Row::getMethodInvocationExample)
+              .containsExactlyInAnyOrder("box.put(\"x\")", "box.echo(1)")),
+          //language=java
+          java(
+            """
+              package foo;
+
+              import java.util.List;
+
+              public class Box<T> {
+                  public void put(T value) {
+                  }
+                  public void put(List<T> values) {
+                  }
+                  public <U> U echo(U value) {
+                      return value;
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import foo.Box;
+              import org.junit.jupiter.api.Test;
+
+              public class BoxTest {
+                 @Test
+                 public void test() {
+                     Box<String> box = new Box<>();
+                     box.put("x");
+                     box.echo(1);
+                 }
+              }
+              """
+          )
+        );
+    }
+
     @Nested
     class NotFound {
 
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.config.Environment;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.testing.cleanup.RemoveTestPrefix;
+import org.openrewrite.java.testing.cleanup.TestsShouldIncludeAssertions;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+
+class RecipePerformanceTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          // The measured recipe wraps a recipe instance, and is not meant to be serialized
+          .validateRecipeSerialization(false)
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "junit-jupiter-api-5"));
+    }
+
+    @Test
+    void rowPerSourceFile() {
+        rewriteRun(
+          spec -> spec.recipe(RecipePerformance.measure(new RemoveTestPrefix()))
+            .dataTable(RecipePerformance.Row.class, rows -> assertThat(rows)
+              .filteredOn(row -> row.getCycle() == 1)
+              .allSatisfy(row -> {
+                  assertThat(row.getRecipeName()).isEqualTo("org.openrewrite.java.testing.cleanup.RemoveTestPrefix");
+                  assertThat(row.getPhase()).isEqualTo(RecipePerformance.Phase.Edit);
+                  assertThat(row.getWallTimeNanos()).isPositive();
+              })
+              .extracting(RecipePerformance.Row::getSourcePath, RecipePerformance.Row::isChanged)
+              .containsExactlyInAnyOrder(
+                tuple("ATest.java", true),
+                tuple("A.java", false)
+              )),
+          //language=java
+          java(
+            """
+              import org.junit.jupiter.api.Test;
+
+              class ATest {
+                  @Test
+                  void testMethod() {
+                  }
+              }
+              """,
+            """
+              import org.junit.jupiter.api.Test;
+
+              class ATest {
+                  @Test
+                  void method() {
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class A {
+                  void testMethod() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void scanningRecipe() {
+        rewriteRun(
+          spec -> spec.recipe(RecipePerformance.measure(new TestsShouldIncludeAssertions(null)))
+            .dataTable(RecipePerformance.Row.class, rows -> assertThat(rows)
+              .filteredOn(row -> row.getCycle() == 1)
+              .extracting(RecipePerformance.Row::getRecipeName, RecipePerformance.Row::getPhase)
+              .containsExactlyInAnyOrder(
+                tuple("org.openrewrite.java.testing.cleanup.TestsShouldIncludeAssertions", RecipePerformance.Phase.Scan),
+                tuple("org.openrewrite.java.testing.cleanup.TestsShouldIncludeAssertions", RecipePerformance.Phase.Edit)
+              )),
+          //language=java
+          java(
+            """
+              import org.junit.jupiter.api.Test;
+
+              import static org.junit.jupiter.api.Assertions.assertTrue;
+
+              class ATest {
+                  @Test
+                  void test() {
+                      assertTrue(true);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void recipeListIsMeasured() {
+        rewriteRun(
+          spec -> spec.recipe(RecipePerformance.measure(Environment.builder()
+              .scanRuntimeClasspath("org.openrewrite.java.testing")
+              .build()
+              .activateRecipes("org.openrewrite.java.testing.cleanup.BestPractices")))
+            .dataTable(RecipePerformance.Row.class, rows -> assertThat(rows)
+              .extracting(RecipePerformance.Row::getRecipeName)
+              .contains(
+                "org.openrewrite.java.testing.cleanup.BestPractices",
+                "org.openrewrite.java.testing.cleanup.RemoveTestPrefix")),
+          //language=java
+          java(
+            """
+              class A {
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.testcontainers;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class Testcontainers2ContainerClassesSinglePassTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new Testcontainers2ContainerClassesSinglePass())
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(
+            new InMemoryExecutionContext(),
+            "testcontainers-2",
+            "testcontainers-cassandra",
+            "testcontainers-kafka",
+            "testcontainers-localstack",
+            "testcontainers-mysql"));
+    }
+
+    @Test
+    void rulesReadFromYaml() {
+        assertThat(Testcontainers2ContainerClassesSinglePass.getTypeChangesByOldType())
+          .hasSize(26)
+          .containsKeys(
+            "org.testcontainers.containers.KafkaContainer",
+            "org.testcontainers.containers.localstack.LocalStackContainer");
+    }
+
+    @DocumentExample
+    @Test
+    void changeTypes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.testcontainers.containers.CassandraContainer;
+              import org.testcontainers.containers.KafkaContainer;
+              import org.testcontainers.containers.localstack.LocalStackContainer;
+              import org.testcontainers.containers.MySQLContainer;
+
+              class A {
+                  private CassandraContainer cassandra = null;
+                  private KafkaContainer kafka = null;
+                  private MySQLContainer mysql = null;
+                  private LocalStackContainer localstack = null;
+              }
+              """,
+            """
+              import org.testcontainers.cassandra.CassandraContainer;
+              import org.testcontainers.kafka.KafkaContainer;
+              import org.testcontainers.localstack.LocalStackContainer;
+              import org.testcontainers.mysql.MySQLContainer;
+
+              class A {
+                  private CassandraContainer cassandra = null;
+                  private KafkaContainer kafka = null;
+                  private MySQLContainer mysql = null;
+                  private LocalStackContainer localstack = null;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void unresolvedContainerImports() {
+        rewriteRun(
+          spec -> spec
+            .parser(JavaParser.fromJavaVersion())
+            .typeValidationOptions(TypeValidation.none()),
+          //language=java
+          java(
+            """
+              import org.testcontainers.containers.KafkaContainer;
+              import org.testcontainers.containers.MySQLContainer;
+
+              class A {
+                  private KafkaContainer kafka = null;
+                  private MySQLContainer mysql = null;
+              }
+              """,
+            """
+              import org.testcontainers.kafka.KafkaContainer;
+              import org.testcontainers.mysql.MySQLContainer;
+
+              class A {
+                  private KafkaContainer kafka = null;
+                  private MySQLContainer mysql = null;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noContainerClasses() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.testcontainers.containers.GenericContainer;
+
+              class A {
+                  private GenericContainer<?> container = null;
+              }
+              """
+          )
+        );
+    }
+}
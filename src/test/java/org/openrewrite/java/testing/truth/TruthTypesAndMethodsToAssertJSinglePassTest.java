@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.testing.truth;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Result;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.ChangeMethodName;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class TruthTypesAndMethodsToAssertJSinglePassTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec
+          .recipe(new TruthTypesAndMethodsToAssertJSinglePass())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "guava", "truth"));
+    }
+
+    @Test
+    void stepsReadFromYaml() {
+        List<Recipe> steps = TruthTypesAndMethodsToAssertJSinglePass.getSteps().getSteps();
+        assertThat(steps).filteredOn(ChangeMethodName.class::isInstance).hasSize(16);
+        assertThat(steps).filteredOn(ChangeType.class::isInstance).hasSize(33);
+    }
+
+    @DocumentExample
+    @Test
+    void renameMethodsAndTypes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.google.common.truth.StringSubject;
+
+              import static com.google.common.truth.Truth.assertThat;
+
+              class Test {
+                  void test(String actual, Integer number) {
+                      StringSubject subject = assertThat(actual);
+                      subject.containsMatch("h.*");
+                      assertThat(number).isAtLeast(1);
+                  }
+              }
+              """,
+            """
+              import org.assertj.core.api.AbstractStringAssert;
+
+              import static org.assertj.core.api.Assertions.assertThat;
+
+              class Test {
+                  void test(String actual, Integer number) {
+                      AbstractStringAssert subject = assertThat(actual);
+                      subject.matches("h.*");
+                      assertThat(number).isGreaterThanOrEqualTo(1);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void sameAsDeclarativeRecipeWithoutTruthOnClasspath() {
+        //language=java
+        String source = """
+          import com.google.common.truth.StringSubject;
+
+          import static com.google.common.truth.Truth.assertThat;
+
+          class Test {
+              void test(String actual, StringSubject subject) {
+                  subject.hasLength(5);
+                  assertThat(actual).hasLength(5);
+                  assertThat(actual).containsMatch("h.*");
+              }
+          }
+          """;
+        Recipe declarative = Environment.builder()
+          .scanRuntimeClasspath("org.openrewrite.java.testing")
+          .build()
+          .activateRecipes(TruthTypesAndMethodsToAssertJSinglePass.RULES);
+        String expected = run(declarative, source);
+        assertThat(expected).as("Truth imports should be changed by name").isNotEqualTo(source);
+        assertThat(run(new TruthTypesAndMethodsToAssertJSinglePass(), source)).isEqualTo(expected);
+    }
+
+    private static String run(Recipe recipe, String source) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        // No classpath, so that none of the Truth types resolve
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion().build().parse(ctx, source).collect(toList());
+        List<Result> results = recipe.run(new InMemoryLargeSourceSet(sourceFiles), ctx).getChangeset().getAllResults();
+        return results.isEmpty() ? source : results.get(0).getAfter().printAll();
+    }
+}